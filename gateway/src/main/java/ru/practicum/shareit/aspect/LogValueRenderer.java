@@ -0,0 +1,71 @@
+package ru.practicum.shareit.aspect;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Renders arguments and results for request logs without stringifying whole collections.
+ */
+public class LogValueRenderer {
+    private final int maxLength;
+    private final int maxElements;
+
+    public LogValueRenderer(int maxLength, int maxElements) {
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
+    public String render(Object value) {
+        StringBuilder out = new StringBuilder();
+        append(out, value);
+        return truncate(out);
+    }
+
+    public String renderAll(Object[] values) {
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < values.length && out.length() < maxLength; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            append(out, values[i]);
+        }
+        return truncate(out.append(']'));
+    }
+
+    private void append(StringBuilder out, Object value) {
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.append("byte[").append(bytes.length).append(']');
+        } else if (value instanceof ResponseEntity) {
+            ResponseEntity<?> entity = (ResponseEntity<?>) value;
+            out.append("ResponseEntity{status=").append(entity.getStatusCode().value()).append(", body=");
+            append(out, entity.getBody());
+            out.append('}');
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.append('[');
+            Iterator<?> iterator = collection.iterator();
+            for (int i = 0; i < maxElements && iterator.hasNext() && out.length() < maxLength; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                append(out, iterator.next());
+            }
+            if (collection.size() > maxElements) {
+                out.append(", ... ").append(collection.size()).append(" total");
+            }
+            out.append(']');
+        } else {
+            out.append(value);
+        }
+    }
+
+    private String truncate(StringBuilder out) {
+        if (out.length() <= maxLength) {
+            return out.toString();
+        }
+        return out.substring(0, maxLength) + "...";
+    }
+}
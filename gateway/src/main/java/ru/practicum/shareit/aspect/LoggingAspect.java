@@ -1,36 +1,98 @@
 package ru.practicum.shareit.aspect;
 
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Logs one line per controller call to the logger {@code shareit.request.<Controller>.<method>}, so levels can be
+ * set per endpoint. Successful calls are sampled and logged at INFO, failed calls are always logged at WARN; a
+ * response with an error status from the server counts as failed. For a {@link Mono} result the line is written
+ * when the server has answered.
+ */
 @Aspect
 @Component
-@Slf4j
 public class LoggingAspect {
+    static final String LOGGER_PREFIX = "shareit.request.";
 
-    @Before("execution(* ru.practicum.shareit.item.controller.*.*(..)) || " +
+    private final Map<Method, Logger> loggers = new ConcurrentHashMap<>();
+    private final double sampleRate;
+    private final LogValueRenderer renderer;
+
+    public LoggingAspect(@Value("${shareit.logging.sample-rate:1.0}") double sampleRate,
+                         @Value("${shareit.logging.max-length:512}") int maxLength,
+                         @Value("${shareit.logging.max-elements:10}") int maxElements) {
+        this.sampleRate = sampleRate;
+        this.renderer = new LogValueRenderer(maxLength, maxElements);
+    }
+
+    @Around("execution(* ru.practicum.shareit.item.controller.*.*(..)) || " +
             "execution(* ru.practicum.shareit.user.controller.*.*(..)) ||" +
             "execution(* ru.practicum.shareit.booking.controller.*.*(..)) ||" +
             "execution(* ru.practicum.shareit.request.controller.*.*(..))")
-    public void logBefore(JoinPoint joinPoint) {
-        log.info("Entering in Method :  {}", joinPoint.getSignature().getName());
-        log.info("Class Name :  {}", joinPoint.getSignature().getDeclaringTypeName());
-        log.info("Arguments :  {}", Arrays.toString(joinPoint.getArgs()));
+    public Object log(ProceedingJoinPoint joinPoint) throws Throwable {
+        Logger logger = loggers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                LoggingAspect::endpointLogger);
+        if (!logger.isWarnEnabled()) {
+            return joinPoint.proceed();
+        }
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            logError(logger, joinPoint, started, e);
+            throw e;
+        }
+        boolean sampled = logger.isInfoEnabled() && isSampled();
+        if (result instanceof Mono<?> mono) {
+            return mono.doOnError(e -> logError(logger, joinPoint, started, e))
+                    .doOnSuccess(value -> logResult(logger, joinPoint, started, value, sampled));
+        }
+        logResult(logger, joinPoint, started, result, sampled);
+        return result;
     }
 
-    @AfterReturning(pointcut = "execution(* ru.practicum.shareit.item.controller.*.*(..)) || " +
-            "execution(* ru.practicum.shareit.user.controller.*.*(..)) ||" +
-            "execution(* ru.practicum.shareit.booking.controller.*.*(..)) ||" +
-            "execution(* ru.practicum.shareit.request.controller.*.*(..))",
-            returning = "result")
-    public void logAfter(JoinPoint joinPoint, Object result) {
-        log.info("Method Return value : {}", result);
-        log.info("Exiting from Method :  {}", joinPoint.getSignature().getName());
+    private void logResult(Logger logger, ProceedingJoinPoint joinPoint, long started, Object result,
+                           boolean sampled) {
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().isError()) {
+            logger.warn("outcome=error durationMs={} args={} status={} result={}", elapsedMillis(started),
+                    renderer.renderAll(joinPoint.getArgs()), response.getStatusCode().value(),
+                    renderer.render(response));
+        } else if (sampled) {
+            logger.info("outcome=ok durationMs={} args={} result={}", elapsedMillis(started),
+                    renderer.renderAll(joinPoint.getArgs()), renderer.render(result));
+        }
+    }
+
+    private void logError(Logger logger, ProceedingJoinPoint joinPoint, long started, Throwable e) {
+        logger.warn("outcome=error durationMs={} args={} error={}", elapsedMillis(started),
+                renderer.renderAll(joinPoint.getArgs()), renderer.render(e));
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static long elapsedMillis(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    private static Logger endpointLogger(Method method) {
+        return LoggerFactory.getLogger(LOGGER_PREFIX + method.getDeclaringClass().getSimpleName() + "."
+                + method.getName());
     }
 }
@@ -2,15 +2,15 @@ package ru.practicum.shareit.booking.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -18,38 +18,43 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, ServerExchangeFactory exchangeFactory) {
+        super(exchangeFactory.create(serverUrl + API_PREFIX));
     }
 
-    public ResponseEntity<Object> create(long userId, BookingCreateDto bookingCreateDto) {
+    public Mono<ResponseEntity<Object>> create(long userId, BookingCreateDto bookingCreateDto) {
         return post("", userId, bookingCreateDto);
     }
 
-    public ResponseEntity<Object> updateStatus(long ownerId, long bookingId, boolean approved) {
+    public Mono<ResponseEntity<Object>> updateStatus(long ownerId, long bookingId, boolean approved) {
         return patch(String.format("/%d?approved=%b", bookingId, approved), ownerId);
     }
 
-    public ResponseEntity<Object> getById(long userId, long bookingId) {
+    public Mono<ResponseEntity<Object>> getById(long userId, long bookingId) {
         return get(String.format("/%d", bookingId), userId);
     }
 
-    public ResponseEntity<Object> getAllByUserId(long userId, BookingState bookingState) {
-        Map<String, Object> parameters = Map.of(
-                "state", bookingState.name()
-        );
-        return get("?state={state}", userId, parameters);
+    public Mono<ResponseEntity<Object>> getAllByUserId(long userId, BookingState bookingState, String cursor, int size) {
+        return get(pagedPath("?state={state}&size={size}", cursor), userId,
+                pagedParameters(bookingState, cursor, size));
     }
 
-    public ResponseEntity<Object> getAllByOwnerId(long ownerId, BookingState bookingState) {
-        Map<String, Object> parameters = Map.of(
-                "state", bookingState.name()
-        );
-        return get("/owner?state={state}", ownerId, parameters);
+    public Mono<ResponseEntity<Object>> getAllByOwnerId(long ownerId, BookingState bookingState, String cursor, int size) {
+        return get(pagedPath("/owner?state={state}&size={size}", cursor), ownerId,
+                pagedParameters(bookingState, cursor, size));
+    }
+
+    private static String pagedPath(String path, String cursor) {
+        return cursor == null ? path : path + "&cursor={cursor}";
+    }
+
+    private static Map<String, Object> pagedParameters(BookingState bookingState, String cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", bookingState.name());
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 }
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.booking.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -14,10 +16,12 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.client.BookingClient;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
+import static ru.practicum.shareit.constants.PageSize.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
 
 @Slf4j
@@ -29,33 +33,37 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader(USER_ID_HEADER) long userId,
-                                         @Valid @RequestBody BookingCreateDto bookingCreateDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader(USER_ID_HEADER) long userId,
+                                               @Valid @RequestBody BookingCreateDto bookingCreateDto) {
         return bookingClient.create(userId, bookingCreateDto);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateStatus(@RequestHeader(USER_ID_HEADER) Long ownerId, @PathVariable Long bookingId,
-                                               @RequestParam boolean approved) {
+    public Mono<ResponseEntity<Object>> updateStatus(@RequestHeader(USER_ID_HEADER) Long ownerId, @PathVariable Long bookingId,
+                                                     @RequestParam boolean approved) {
         return bookingClient.updateStatus(ownerId, bookingId, approved);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getById(@RequestHeader(USER_ID_HEADER) long userId, @PathVariable Long bookingId) {
+    public Mono<ResponseEntity<Object>> getById(@RequestHeader(USER_ID_HEADER) long userId, @PathVariable Long bookingId) {
         return bookingClient.getById(userId, bookingId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
-                                                 @RequestParam(defaultValue = "ALL") String state) {
+    public Mono<ResponseEntity<Object>> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                       @RequestParam(defaultValue = "ALL") String state,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "50") @Positive @Max(MAX_PAGE_SIZE) int size) {
         BookingState stateEnum = BookingState.from(state);
-        return bookingClient.getAllByUserId(userId, stateEnum);
+        return bookingClient.getAllByUserId(userId, stateEnum, cursor, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByOwnerId(@RequestHeader(USER_ID_HEADER) long ownerId,
-                                                  @RequestParam(defaultValue = "ALL") String state) {
+    public Mono<ResponseEntity<Object>> getAllByOwnerId(@RequestHeader(USER_ID_HEADER) long ownerId,
+                                                        @RequestParam(defaultValue = "ALL") String state,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "50") @Positive @Max(MAX_PAGE_SIZE) int size) {
         BookingState stateEnum = BookingState.from(state);
-        return bookingClient.getAllByOwnerId(ownerId, stateEnum);
+        return bookingClient.getAllByOwnerId(ownerId, stateEnum, cursor, size);
     }
 }
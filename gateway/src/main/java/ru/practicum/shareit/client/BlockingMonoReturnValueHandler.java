@@ -0,0 +1,37 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes a Mono returned by a controller on the request thread. Spring MVC otherwise starts a servlet async dispatch
+ * for every Mono, which in blocking mode only adds a second pass through the filter chain. Registered in blocking
+ * mode only, ahead of Spring's own handlers.
+ */
+class BlockingMonoReturnValueHandler implements HandlerMethodReturnValueHandler {
+    private final HandlerMethodReturnValueHandler entityHandler;
+
+    BlockingMonoReturnValueHandler(HandlerMethodReturnValueHandler entityHandler) {
+        this.entityHandler = entityHandler;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Mono.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(@Nullable Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        Object value = returnValue != null ? ((Mono<?>) returnValue).block() : null;
+        if (value == null) {
+            mavContainer.setRequestHandled(true);
+            return;
+        }
+        entityHandler.handleReturnValue(value, returnType.nested(), mavContainer, webRequest);
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One connection pool shared by every client talking to the ShareIt server. {@code shareit-server.client} selects
+ * the blocking RestTemplate stack or the non-blocking WebClient stack. In blocking mode controllers' Monos are
+ * written on the request thread; in reactive mode they complete through a servlet async dispatch.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+    static final String POOL_NAME = "shareit-server";
+    static final String MODE_PROPERTY = "shareit-server.client";
+
+    @Configuration
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "blocking", matchIfMissing = true)
+    static class Blocking {
+        @Bean(destroyMethod = "close")
+        public PoolingHttpClientConnectionManager shareitServerConnectionManager(HttpClientProperties properties,
+                                                                                MeterRegistry meterRegistry) {
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(properties.getMaxConnections())
+                    .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                            .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                            .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                            .build())
+                    .build();
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+            return connectionManager;
+        }
+
+        @Bean(destroyMethod = "close")
+        public CloseableHttpClient shareitServerHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                          HttpClientProperties properties) {
+            return HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setConnectionManagerShared(true)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                            .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                            .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                            .build())
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.of(properties.getEvictIdleAfter()))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory shareitServerRequestFactory(CloseableHttpClient httpClient) {
+            return new HttpComponentsClientHttpRequestFactory(httpClient);
+        }
+
+        @Bean
+        public ServerExchangeFactory blockingServerExchangeFactory(RestTemplateBuilder builder,
+                                                                   ClientHttpRequestFactory requestFactory,
+                                                                   MeterRegistry meterRegistry) {
+            return baseUrl -> new TimedServerExchange(new RestTemplateServerExchange(builder
+                    .uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
+                    .requestFactory(() -> requestFactory)
+                    .build()), meterRegistry, baseUrl);
+        }
+
+        @Bean
+        public static BeanPostProcessor blockingMonoReturnValueHandlerRegistrar() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof RequestMappingHandlerAdapter) {
+                        RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+                        List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+                        handlers.add(new BlockingMonoReturnValueHandler(adapter.getReturnValueHandlers().stream()
+                                .filter(handler -> handler instanceof HttpEntityMethodProcessor)
+                                .findFirst()
+                                .orElseThrow(IllegalStateException::new)));
+                        handlers.addAll(adapter.getReturnValueHandlers());
+                        adapter.setReturnValueHandlers(handlers);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "reactive")
+    static class Reactive {
+        /**
+         * Reactor Netty keeps a pool per remote address, so the per-route limit applies. Pool metrics are published
+         * as reactor.netty.connection.provider.*.
+         */
+        @Bean(destroyMethod = "dispose")
+        public ConnectionProvider shareitServerConnectionProvider(HttpClientProperties properties) {
+            return ConnectionProvider.builder(POOL_NAME)
+                    .maxConnections(properties.getMaxConnectionsPerRoute())
+                    .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                    .maxIdleTime(properties.getEvictIdleAfter())
+                    .evictInBackground(properties.getEvictIdleAfter())
+                    .metrics(true)
+                    .build();
+        }
+
+        @Bean
+        public ServerExchangeFactory reactiveServerExchangeFactory(WebClient.Builder builder,
+                                                                   ConnectionProvider connectionProvider,
+                                                                   HttpClientProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                    .responseTimeout(properties.getReadTimeout());
+            ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+            return baseUrl -> new TimedServerExchange(new WebClientServerExchange(builder.clone()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(baseUrl))
+                    .clientConnector(connector)
+                    .build()), meterRegistry, baseUrl);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.client;
+
+/**
+ * Creates the exchange a client uses to reach the ShareIt server under the given base URL.
+ */
+@FunctionalInterface
+public interface ServerExchangeFactory {
+    ServerExchange create(String baseUrl);
+}
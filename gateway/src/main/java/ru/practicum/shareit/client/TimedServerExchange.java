@@ -0,0 +1,51 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Records gateway-to-server latency as {@code shareit.gateway.server.requests}, tagged by API, HTTP method and
+ * response status ({@code IO_ERROR} when no response arrived).
+ */
+public class TimedServerExchange implements ServerExchange {
+    static final String METRIC = "shareit.gateway.server.requests";
+
+    private final ServerExchange delegate;
+    private final MeterRegistry meterRegistry;
+    private final String api;
+
+    public TimedServerExchange(ServerExchange delegate, MeterRegistry meterRegistry, String baseUrl) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.api = URI.create(baseUrl).getPath();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return delegate.exchange(method, path, headers, parameters, body)
+                    .doOnSuccess(response -> sample.stop(timer(method,
+                            String.valueOf(response.getStatusCode().value()))))
+                    .doOnError(e -> sample.stop(timer(method, "IO_ERROR")));
+        });
+    }
+
+    private Timer timer(HttpMethod method, String status) {
+        return Timer.builder(METRIC)
+                .tag("api", api)
+                .tag("method", method.name())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A {@link Resource} body is streamed to the server; it is read on a bounded elastic thread because reading a
+ * request stream blocks.
+ */
+public class WebClientServerExchange implements ServerExchange {
+    private static final byte[] NO_BODY = new byte[0];
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final WebClient webClient;
+
+    public WebClientServerExchange(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Collections.emptyMap())
+                .headers(requestHeaders -> requestHeaders.addAll(headers));
+        WebClient.RequestHeadersSpec<?> withBody = request;
+        if (body instanceof Resource resource) {
+            withBody = request.body(DataBufferUtils.read(resource, DefaultDataBufferFactory.sharedInstance,
+                    STREAM_BUFFER_SIZE).subscribeOn(Schedulers.boundedElastic()), DataBuffer.class);
+        } else if (body != null) {
+            withBody = request.bodyValue(body);
+        }
+        return withBody
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(NO_BODY)
+                        .map(responseBody -> BaseClient.prepareGatewayResponse(response.statusCode(),
+                                response.headers().asHttpHeaders(), responseBody)));
+    }
+}
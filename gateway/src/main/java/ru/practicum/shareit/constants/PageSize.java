@@ -0,0 +1,5 @@
+package ru.practicum.shareit.constants;
+
+public class PageSize {
+    public static final int MAX_PAGE_SIZE = 100;
+}
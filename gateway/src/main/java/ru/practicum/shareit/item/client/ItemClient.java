@@ -1,61 +1,153 @@
 package ru.practicum.shareit.item.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, ServerExchangeFactory exchangeFactory,
+                      Validator validator, ObjectMapper objectMapper) {
+        super(exchangeFactory.create(serverUrl + API_PREFIX));
+        this.validator = validator;
+        this.objectMapper = objectMapper;
     }
 
-    public ResponseEntity<Object> getAllByUsersId(long userId) {
+    public Mono<ResponseEntity<Object>> getAllByUsersId(long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getById(long userId, long itemId) {
+    public Mono<ResponseEntity<Object>> getById(long userId, long itemId) {
         return get(String.format("/%d", itemId), userId);
     }
 
-    public ResponseEntity<Object> create(long userId, ItemCreateDto itemCreateDto) {
+    public Mono<ResponseEntity<Object>> create(long userId, ItemCreateDto itemCreateDto) {
         return post("", userId, itemCreateDto);
     }
 
-    public ResponseEntity<Object> update(long userId, long itemId, ItemUpdateDto itemUpdateDto) {
+    /**
+     * Rows failing validation are rejected here; only the rest are sent to the server, and the server's per-row
+     * results are mapped back to the positions of the original rows.
+     */
+    public Mono<ResponseEntity<Object>> importItems(long userId, List<ItemCreateDto> items) {
+        List<ItemImportRowDto> rejected = new ArrayList<>();
+        List<ItemCreateDto> valid = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            String error = validate(items.get(index));
+            if (error == null) {
+                valid.add(items.get(index));
+                validIndexes.add(index);
+            } else {
+                rejected.add(ItemImportRowDto.builder()
+                        .index(index)
+                        .status(ItemImportRowDto.Status.REJECTED)
+                        .error(error)
+                        .build());
+            }
+        }
+        if (valid.isEmpty()) {
+            return Mono.just(ResponseEntity.ok(merge(rejected, validIndexes, Collections.emptyList())));
+        }
+        return post("/batch", userId, valid).map(response -> {
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return response;
+            }
+            return ResponseEntity.ok(merge(rejected, validIndexes, readServerRows(response)));
+        });
+    }
+
+    public Mono<ResponseEntity<Object>> importItemStream(long userId, InputStream items) {
+        return post("/batch", userId, MediaType.APPLICATION_NDJSON, new InputStreamResource(items));
+    }
+
+    public Mono<ResponseEntity<Object>> update(long userId, long itemId, ItemUpdateDto itemUpdateDto) {
         return patch(String.format("/%d", itemId), userId, itemUpdateDto);
     }
 
-    public void delete(long itemId, long userId) {
-        delete(String.format("/%d", itemId), userId);
+    public Mono<Void> delete(long itemId, long userId) {
+        return delete(String.format("/%d", itemId), userId).then();
     }
 
-    public ResponseEntity<Object> getAllByText(String text) {
+    public Mono<ResponseEntity<Object>> getAllByText(String text, int from, int size) {
         Map<String, Object> parameters = Map.of(
-                "text", text
+                "text", text,
+                "from", from,
+                "size", size
         );
-        return get("/search?text={text}", null, parameters);
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> addComment(long itemId, long userId, CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(long itemId, long userId, CommentDto commentDto) {
         return post(String.format("/%d/comment", itemId), userId, commentDto);
     }
+
+    private String validate(ItemCreateDto item) {
+        if (item == null) {
+            return "Item import row can't be empty";
+        }
+        Set<ConstraintViolation<ItemCreateDto>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<ItemImportRowDto> readServerRows(ResponseEntity<Object> response) {
+        try {
+            return objectMapper.readValue((byte[]) response.getBody(), ItemImportResultDto.class).getRows();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected item import response from server", e);
+        }
+    }
+
+    private static ItemImportResultDto merge(List<ItemImportRowDto> rejected, List<Integer> validIndexes,
+                                             List<ItemImportRowDto> serverRows) {
+        List<ItemImportRowDto> rows = new ArrayList<>(rejected);
+        for (ItemImportRowDto row : serverRows) {
+            row.setIndex(validIndexes.get(row.getIndex()));
+            rows.add(row);
+        }
+        rows.sort(Comparator.comparingInt(ItemImportRowDto::getIndex));
+        int created = (int) rows.stream().filter(row -> row.getStatus() == ItemImportRowDto.Status.CREATED).count();
+        return ItemImportResultDto.builder()
+                .created(created)
+                .rejected(rows.size() - created)
+                .rows(rows)
+                .build();
+    }
 }
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.item.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,13 +19,17 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.client.ItemClient;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
 
+import static ru.practicum.shareit.constants.PageSize.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
 
 @Slf4j
@@ -33,47 +41,65 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUsersId(@RequestHeader(USER_ID_HEADER) long userId) {
+    public Mono<ResponseEntity<Object>> getAllByUsersId(@RequestHeader(USER_ID_HEADER) long userId) {
         return itemClient.getAllByUsersId(userId);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getById(@RequestHeader(USER_ID_HEADER) long userId,
-                                          @PathVariable long itemId) {
+    public Mono<ResponseEntity<Object>> getById(@RequestHeader(USER_ID_HEADER) long userId,
+                                                @PathVariable long itemId) {
         return itemClient.getById(userId, itemId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader(USER_ID_HEADER) long userId,
-                                         @Valid @RequestBody ItemCreateDto itemCreateDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader(USER_ID_HEADER) long userId,
+                                               @Valid @RequestBody ItemCreateDto itemCreateDto) {
         return itemClient.create(userId, itemCreateDto);
     }
 
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Object>> importItems(@RequestHeader(USER_ID_HEADER) long userId,
+                                                    @RequestBody List<ItemCreateDto> items) {
+        return itemClient.importItems(userId, items);
+    }
+
+    /**
+     * The stream is forwarded to the server as it arrives, so it is never held in gateway memory; the server
+     * parses and validates the rows.
+     */
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Object>> importItemStream(@RequestHeader(USER_ID_HEADER) long userId,
+                                                         InputStream body) {
+        return itemClient.importItemStream(userId, body);
+    }
+
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> update(@RequestHeader(USER_ID_HEADER) long userId,
-                                         @PathVariable long itemId,
-                                         @RequestBody ItemUpdateDto itemUpdateDto) {
+    public Mono<ResponseEntity<Object>> update(@RequestHeader(USER_ID_HEADER) long userId,
+                                               @PathVariable long itemId,
+                                               @RequestBody ItemUpdateDto itemUpdateDto) {
         return itemClient.update(userId, itemId, itemUpdateDto);
     }
 
     @DeleteMapping("/{itemId}")
-    public void delete(@RequestHeader(USER_ID_HEADER) long userId,
-                       @PathVariable long itemId) {
-        itemClient.delete(itemId, userId);
+    public Mono<Void> delete(@RequestHeader(USER_ID_HEADER) long userId,
+                             @PathVariable long itemId) {
+        return itemClient.delete(itemId, userId);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> getAllByText(@RequestParam String text) {
+    public Mono<ResponseEntity<Object>> getAllByText(@RequestParam String text,
+                                                     @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                     @RequestParam(defaultValue = "50") @Positive @Max(MAX_PAGE_SIZE) int size) {
         if (text.isEmpty()) {
-            return ResponseEntity.ok(Collections.emptyList());
+            return Mono.just(ResponseEntity.ok(Collections.emptyList()));
         }
-        return itemClient.getAllByText(text);
+        return itemClient.getAllByText(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(USER_ID_HEADER) long userId,
-                                             @PathVariable long itemId,
-                                             @Validated @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(USER_ID_HEADER) long userId,
+                                                   @PathVariable long itemId,
+                                                   @Validated @RequestBody CommentDto commentDto) {
         return itemClient.addComment(itemId, userId, commentDto);
     }
 }
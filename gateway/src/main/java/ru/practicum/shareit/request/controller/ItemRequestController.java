@@ -1,6 +1,9 @@
 package ru.practicum.shareit.request.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -13,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.client.ItemRequestClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import static ru.practicum.shareit.constants.PageSize.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
 
 @Slf4j
@@ -27,26 +32,34 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader(USER_ID_HEADER) long userId,
-                                         @Valid @RequestBody ItemRequestDto itemRequestDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader(USER_ID_HEADER) long userId,
+                                               @Valid @RequestBody ItemRequestDto itemRequestDto) {
         return itemRequestClient.create(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
-        return itemRequestClient.getAllByUserId(userId);
+    public Mono<ResponseEntity<Object>> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                       @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                       @RequestParam(defaultValue = "50") @Positive @Max(MAX_PAGE_SIZE) int size) {
+        return itemRequestClient.getAllByUserId(userId, from, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllOtherUsers(@RequestHeader(USER_ID_HEADER) long userId,
-                                                   @RequestParam(defaultValue = "0") int from,
-                                                   @RequestParam(defaultValue = "10") int size) {
-        return itemRequestClient.getAllOtherUsers(userId, from, size);
+    public Mono<ResponseEntity<Object>> getAllOtherUsers(@RequestHeader(USER_ID_HEADER) long userId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "10") @Positive @Max(MAX_PAGE_SIZE) int size) {
+        return itemRequestClient.getAllOtherUsers(userId, cursor, size);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getById(@RequestHeader(USER_ID_HEADER) long userId,
-                                          @PathVariable long requestId) {
+    public Mono<ResponseEntity<Object>> getById(@RequestHeader(USER_ID_HEADER) long userId,
+                                                @PathVariable long requestId) {
         return itemRequestClient.getById(userId, requestId);
     }
+
+    @GetMapping("/{requestId}/matches")
+    public Mono<ResponseEntity<Object>> getMatches(@RequestHeader(USER_ID_HEADER) long userId,
+                                                   @PathVariable long requestId) {
+        return itemRequestClient.getMatches(userId, requestId);
+    }
 }
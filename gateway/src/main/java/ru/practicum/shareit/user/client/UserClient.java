@@ -2,12 +2,11 @@ package ru.practicum.shareit.user.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
 
@@ -15,32 +14,27 @@ import ru.practicum.shareit.user.dto.UserUpdateDto;
 public class UserClient extends BaseClient {
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + "/users"))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
-        );
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, ServerExchangeFactory exchangeFactory) {
+        super(exchangeFactory.create(serverUrl + "/users"));
     }
 
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return get("");
     }
 
-    public ResponseEntity<Object> getById(long userId) {
+    public Mono<ResponseEntity<Object>> getById(long userId) {
         return get(String.format("/%d", userId));
     }
 
-    public ResponseEntity<Object> create(UserCreateDto userCreateDto) {
+    public Mono<ResponseEntity<Object>> create(UserCreateDto userCreateDto) {
         return post("", userCreateDto);
     }
 
-    public ResponseEntity<Object> update(long userId, UserUpdateDto userUpdateDto) {
+    public Mono<ResponseEntity<Object>> update(long userId, UserUpdateDto userUpdateDto) {
         return patch(String.format("/%d", userId), userUpdateDto);
     }
 
-    public void delete(long userId) {
-        delete(String.format("/%d", userId));
+    public Mono<Void> delete(long userId) {
+        return delete(String.format("/%d", userId)).then();
     }
 }
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
@@ -26,28 +27,28 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return userClient.getAll();
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getById(@PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> getById(@PathVariable long userId) {
         return userClient.getById(userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@Valid @RequestBody UserCreateDto userCreateDto) {
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody UserCreateDto userCreateDto) {
         return userClient.create(userCreateDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@PathVariable long userId,
-                                         @Valid @RequestBody UserUpdateDto userUpdateDto) {
+    public Mono<ResponseEntity<Object>> update(@PathVariable long userId,
+                                               @Valid @RequestBody UserUpdateDto userUpdateDto) {
         return userClient.update(userId, userUpdateDto);
     }
 
     @DeleteMapping("/{userId}")
-    public void delete(@PathVariable long userId) {
-        userClient.delete(userId);
+    public Mono<Void> delete(@PathVariable long userId) {
+        return userClient.delete(userId);
     }
 }
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.controller.UserController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoggingAspectTest {
+    Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.LOGGER_PREFIX + "UserController.getById");
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        appender.start();
+        logger.addAppender(appender);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(UserController.class.getMethod("getById", long.class));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L});
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void log_ShouldLogServerErrorStatusAtWarnEvenWhenUnsampled() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body("{\"error\":\"Пользователя с id=1 не существует\"}")));
+
+        ((Mono<?>) new LoggingAspect(0.0, 512, 3).log(joinPoint)).block();
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN))
+                .extracting(ILoggingEvent::getFormattedMessage).asString()
+                .startsWith("outcome=error")
+                .contains("status=404");
+    }
+
+    @Test
+    void log_ShouldSkipUnsampledSuccessfulResponse() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(Mono.just(ResponseEntity.ok("{}")));
+
+        ((Mono<?>) new LoggingAspect(0.0, 512, 3).log(joinPoint)).block();
+
+        assertThat(appender.list).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.controller.BookingController;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
+
+@WebMvcTest(BookingController.class)
+class BookingControllerTest {
+    @MockBean
+    BookingClient bookingClient;
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void getAllByUserId_ShouldRejectSizeOutOfRange() throws Exception {
+        mockMvc.perform(get("/bookings").header(USER_ID_HEADER, 1L).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/bookings/owner").header(USER_ID_HEADER, 1L).param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingClient, never()).getAllByUserId(anyLong(), any(), any(), anyInt());
+        verify(bookingClient, never()).getAllByOwnerId(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllByUserId_ShouldPassMaximumSize() throws Exception {
+        when(bookingClient.getAllByUserId(1L, BookingState.ALL, null, 100))
+                .thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+        MvcResult result = mockMvc.perform(get("/bookings").header(USER_ID_HEADER, 1L).param("size", "100"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
+
+/**
+ * Blocking mode writes the response on the request thread, without a servlet async dispatch.
+ */
+@SpringBootTest(properties = {"shareit-server.client=blocking", "shareit-server.http-client.read-timeout=500ms"})
+@AutoConfigureMockMvc
+class BlockingModeGatewayTest {
+    private static final String BODY = "{\"id\":1,\"name\":\"John\",\"email\":\"john@example.com\"}";
+    private static final String ERROR = "{\"error\":\"Бронирование с id=5 не найдено\"}";
+    private static final String IMPORT_RESULT = "{\"created\":1,\"rejected\":1,\"rows\":[]}";
+    private static final MockWebServer server = new MockWebServer();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://" + server.getHostName() + ":" + server.getPort());
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void get_ShouldPassServerResponseThrough() throws Exception {
+        server.enqueue(json(200, BODY));
+
+        mockMvc.perform(get("/users/1"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(BODY));
+    }
+
+    @Test
+    void get_ShouldPassServerErrorThrough() throws Exception {
+        server.enqueue(json(404, ERROR));
+
+        mockMvc.perform(get("/bookings/5").header(USER_ID_HEADER, 1))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(ERROR));
+    }
+
+    @Test
+    void delete_ShouldAnswerOkWithoutBody() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        mockMvc.perform(delete("/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void get_ShouldAnswerInternalServerErrorWhenServerTimesOut() throws Exception {
+        server.enqueue(json(200, BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void importItemStream_ShouldStreamRowsToServer() throws Exception {
+        String rows = "{\"name\":\"Drill\",\"description\":\"Cordless\",\"available\":true}\n{\"name\":\"\"}\n";
+        server.enqueue(json(200, IMPORT_RESULT));
+
+        mockMvc.perform(post("/items/batch").header(USER_ID_HEADER, 1)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(rows))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().json(IMPORT_RESULT));
+
+        RecordedRequest forwarded = takeRequest("/items/batch");
+        assertThat(forwarded.getHeader(HttpHeaders.CONTENT_TYPE)).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(forwarded.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+        assertThat(forwarded.getBody().readString(StandardCharsets.UTF_8)).isEqualTo(rows);
+    }
+
+    private static RecordedRequest takeRequest(String path) throws InterruptedException {
+        RecordedRequest recorded;
+        do {
+            recorded = server.takeRequest(5, TimeUnit.SECONDS);
+        } while (recorded != null && !path.equals(recorded.getPath()));
+        assertThat(recorded).isNotNull();
+        return recorded;
+    }
+
+    private static MockResponse json(int status, String body) {
+        return new MockResponse().setResponseCode(status)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static ru.practicum.shareit.constants.PagingHttpHeader.NEXT_CURSOR_HEADER;
+import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
+
+class RestTemplateServerExchangeTest {
+    private static final String BODY = "{\"id\":1,\"name\":\"Drill\"}";
+
+    MockRestServiceServer server;
+    RestTemplateServerExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory("http://server.test/items"))
+                .build();
+        server = MockRestServiceServer.bindTo(rest).build();
+        exchange = new RestTemplateServerExchange(rest);
+    }
+
+    @Test
+    void exchange_ShouldPassStatusBodyAndEndToEndHeadersThrough() {
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.set(NEXT_CURSOR_HEADER, "next");
+        responseHeaders.set(HttpHeaders.CONNECTION, "close");
+        server.expect(requestTo("http://server.test/items/1?size=10"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(USER_ID_HEADER, "7"))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON)
+                        .headers(responseHeaders).body(BODY));
+
+        ResponseEntity<Object> response = exchange.exchange(HttpMethod.GET, "/1?size={size}", userHeaders(),
+                Collections.singletonMap("size", 10), null).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(NEXT_CURSOR_HEADER)).isEqualTo("next");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONNECTION)).isFalse();
+        server.verify();
+    }
+
+    @Test
+    void exchange_ShouldSendBodyAsJson() {
+        server.expect(requestTo("http://server.test/items"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("{\"name\":\"Drill\"}"))
+                .andRespond(withStatus(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON).body(BODY));
+
+        ResponseEntity<Object> response = exchange.exchange(HttpMethod.POST, "", userHeaders(), null,
+                Collections.singletonMap("name", "Drill")).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        server.verify();
+    }
+
+    @Test
+    void exchange_ShouldReturnErrorResponsesInsteadOfThrowing() {
+        String error = "{\"error\":\"Вещь не найдена\"}";
+        server.expect(requestTo("http://server.test/items/2"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+        server.expect(requestTo("http://server.test/items/3"))
+                .andRespond(withServerError());
+
+        ResponseEntity<Object> notFound = exchange.exchange(HttpMethod.GET, "/2", userHeaders(), null, null).block();
+        ResponseEntity<Object> serverError = exchange.exchange(HttpMethod.GET, "/3", userHeaders(), null, null)
+                .block();
+
+        assertThat(notFound.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(notFound.getBody()).isEqualTo(error.getBytes(StandardCharsets.UTF_8));
+        assertThat(serverError.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(serverError.hasBody()).isFalse();
+    }
+
+    @Test
+    void exchange_ShouldCallServerBeforeReturning() {
+        server.expect(requestTo("http://server.test/items/1")).andRespond(withStatus(HttpStatus.NO_CONTENT));
+
+        Mono<ResponseEntity<Object>> response = exchange.exchange(HttpMethod.DELETE, "/1", userHeaders(), null,
+                null);
+
+        server.verify();
+        assertThat(response.block().getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    void exchange_ShouldThrowWhenServerIsUnreachable() {
+        server.expect(requestTo("http://server.test/items/1"))
+                .andRespond(withException(new IOException("Connection refused")));
+
+        assertThatThrownBy(() -> exchange.exchange(HttpMethod.GET, "/1", userHeaders(), null, null))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    private static HttpHeaders userHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(USER_ID_HEADER, "7");
+        return headers;
+    }
+}
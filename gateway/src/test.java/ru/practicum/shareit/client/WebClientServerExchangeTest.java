@@ -0,0 +1,117 @@
+package ru.practicum.shareit.client;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.practicum.shareit.constants.PagingHttpHeader.NEXT_CURSOR_HEADER;
+import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
+
+class WebClientServerExchangeTest {
+    private static final String BODY = "{\"id\":1,\"name\":\"Drill\"}";
+
+    MockWebServer server;
+    WebClientServerExchange exchange;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        exchange = new WebClientServerExchange(WebClient.builder()
+                .uriBuilderFactory(new DefaultUriBuilderFactory(server.url("/items").toString()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void exchange_ShouldPassStatusBodyAndEndToEndHeadersThrough() throws InterruptedException {
+        server.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setHeader(NEXT_CURSOR_HEADER, "next")
+                .setHeader(HttpHeaders.SET_COOKIE, "session=1")
+                .setBody(BODY));
+
+        ResponseEntity<Object> response = exchange.exchange(HttpMethod.GET, "/1?size={size}", userHeaders(),
+                Collections.singletonMap("size", 10), null).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(NEXT_CURSOR_HEADER)).isEqualTo("next");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.SET_COOKIE)).isFalse();
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("GET");
+        assertThat(request.getPath()).isEqualTo("/items/1?size=10");
+        assertThat(request.getHeader(USER_ID_HEADER)).isEqualTo("7");
+    }
+
+    @Test
+    void exchange_ShouldSendBodyAsJson() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(201)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(BODY));
+
+        ResponseEntity<Object> response = exchange.exchange(HttpMethod.POST, "", userHeaders(), null,
+                Collections.singletonMap("name", "Drill")).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"name\":\"Drill\"}");
+    }
+
+    @Test
+    void exchange_ShouldCompleteErrorResponsesNormally() {
+        String error = "{\"error\":\"Вещь не найдена\"}";
+        server.enqueue(new MockResponse().setResponseCode(404)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(error));
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        ResponseEntity<Object> notFound = exchange.exchange(HttpMethod.GET, "/2", userHeaders(), null, null).block();
+        ResponseEntity<Object> serverError = exchange.exchange(HttpMethod.GET, "/3", userHeaders(), null, null)
+                .block();
+
+        assertThat(notFound.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(notFound.getBody()).isEqualTo(error.getBytes(StandardCharsets.UTF_8));
+        assertThat(serverError.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(serverError.hasBody()).isFalse();
+    }
+
+    @Test
+    void exchange_ShouldCompleteWithErrorWhenConnectionFails() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+
+        assertThatThrownBy(() -> exchange.exchange(HttpMethod.GET, "/1", userHeaders(), null, null).block())
+                .isInstanceOf(WebClientRequestException.class);
+    }
+
+    private static HttpHeaders userHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(USER_ID_HEADER, "7");
+        return headers;
+    }
+}
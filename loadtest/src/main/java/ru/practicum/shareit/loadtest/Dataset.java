@@ -0,0 +1,44 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids the workload picks from: every user, and every available item together with its owner.
+ */
+record Dataset(long[] userIds, long[] itemIds, long[] itemOwnerIds, long[] ownerIds) {
+    static Dataset load(JdbcTemplate jdbcTemplate) {
+        List<Long> users = jdbcTemplate.queryForList("SELECT user_id FROM users", Long.class);
+        List<long[]> items = jdbcTemplate.query("SELECT item_id, owner_id FROM items WHERE is_available",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        if (users.size() < 2 || items.isEmpty()) {
+            throw new IllegalStateException("The database has no data to run the workload against: seed it first");
+        }
+        return new Dataset(users.stream().mapToLong(Long::longValue).toArray(),
+                items.stream().mapToLong(item -> item[0]).toArray(),
+                items.stream().mapToLong(item -> item[1]).toArray(),
+                items.stream().mapToLong(item -> item[1]).distinct().toArray());
+    }
+
+    int randomItem() {
+        return ThreadLocalRandom.current().nextInt(itemIds.length);
+    }
+
+    long randomUser() {
+        return userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+    }
+
+    long randomOwner() {
+        return ownerIds[ThreadLocalRandom.current().nextInt(ownerIds.length)];
+    }
+
+    long randomRenter(long ownerId) {
+        long userId = randomUser();
+        while (userId == ownerId) {
+            userId = randomUser();
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Inserts a synthetic dataset with JDBC batches into a schema already migrated by the server. The random source is
+ * seeded with a constant, so two runs at the same scale produce the same data.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetSeeder {
+    static final List<String> VOCABULARY = List.of("drill", "ladder", "tent", "bike", "saw", "projector",
+            "kayak", "camera", "grill", "vacuum", "guitar", "scooter", "hammer", "drone", "sewing machine");
+    private static final long RANDOM_SEED = 42;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public void seed(LoadTestProperties.Seed seed) {
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        long started = System.nanoTime();
+        String run = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+        insert(seed, "INSERT INTO users (name, email) VALUES (?, ?)", seed.users(),
+                i -> new Object[]{"User " + i, "load-" + run + "-" + i + "@example.com"});
+        long[] userIds = newestIds("user_id", "users", seed.users());
+        int owners = Math.max(1, seed.users() / seed.ownerShare());
+        int renters = seed.users() - owners;
+
+        insert(seed, "INSERT INTO requests (description, requestor_id, created_date) VALUES (?, ?, ?)",
+                seed.requests(), i -> new Object[]{"Looking for a " + word(random),
+                        userIds[owners + random.nextInt(renters)], Timestamp.valueOf(now.minusMinutes(i))});
+        long[] requestIds = newestIds("request_id", "requests", seed.requests());
+
+        int items = owners * seed.itemsPerOwner();
+        insert(seed, "INSERT INTO items (name, description, is_available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)",
+                items, i -> {
+                    String word = word(random);
+                    Long requestId = seed.requests() > 0 && i % 4 == 0 ? requestIds[random.nextInt(seed.requests())] : null;
+                    return new Object[]{capitalize(word) + " " + i, "Well kept " + word + ", " + word(random) + " included",
+                            random.nextInt(10) != 0, userIds[i % owners], requestId};
+                });
+        long[] itemIds = newestIds("item_id", "items", items);
+
+        insert(seed, "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)",
+                seed.bookings(), i -> {
+                    LocalDateTime start = now.minusDays(1 + i / items).plusHours(random.nextInt(12));
+                    return new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(6)),
+                            itemIds[i % items], userIds[owners + random.nextInt(renters)],
+                            random.nextInt(20) == 0 ? "REJECTED" : "APPROVED"};
+                });
+
+        insert(seed, "INSERT INTO comments (text_comment, created_date, item_id, author_id) VALUES (?, ?, ?, ?)",
+                items * seed.commentsPerItem(), i -> new Object[]{"Worked great for my " + word(random),
+                        Timestamp.valueOf(now.minusHours(i % 1000)), itemIds[i % items],
+                        userIds[owners + random.nextInt(renters)]});
+
+        log.info("Seeded {} users, {} requests, {} items, {} bookings and {} comments in {} ms", seed.users(),
+                seed.requests(), items, seed.bookings(), items * seed.commentsPerItem(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void insert(LoadTestProperties.Seed seed, String sql, int rows, Row row) {
+        List<Object[]> batch = new ArrayList<>(seed.batchSize());
+        for (int i = 0; i < rows; i++) {
+            batch.add(row.values(i));
+            if (batch.size() == seed.batchSize()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    /**
+     * Ids of the rows just inserted. They are not assumed to be contiguous: item ids come from a sequence that
+     * hands out blocks.
+     */
+    private long[] newestIds(String column, String table, int count) {
+        return jdbcTemplate.queryForList("SELECT " + column + " FROM " + table + " ORDER BY " + column
+                        + " DESC LIMIT ?", Long.class, count).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+    }
+
+    private static String word(SplittableRandom random) {
+        return VOCABULARY.get(random.nextInt(VOCABULARY.size()));
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private interface Row {
+        Object[] values(int index);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency percentiles per operation over the measured part of a run.
+ */
+public record LoadReport(Duration duration, Map<String, OperationStats> operations) {
+    private static final String ROW = "%-22s %9s %7s %9s %9s %9s %9s %9s";
+    private static final String COMPARISON_ROW = "%-22s %12s %12s";
+
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(ROW, "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms",
+                "max ms"));
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        for (Map.Entry<String, OperationStats> operation : new TreeMap<>(operations).entrySet()) {
+            Histogram latencies = operation.getValue().latencies();
+            lines.add(row(operation.getKey(), latencies, operation.getValue().errors()));
+            total.add(latencies);
+            errors += operation.getValue().errors();
+        }
+        lines.add(row("total", total, errors));
+        return lines;
+    }
+
+    /**
+     * Throughput and p99 latency of every operation as a multiple of the same operation in {@code baseline}.
+     */
+    public List<String> comparedTo(LoadReport baseline) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(COMPARISON_ROW, "operation", "req/s x", "p99 x"));
+        for (Map.Entry<String, OperationStats> operation : new TreeMap<>(operations).entrySet()) {
+            OperationStats base = baseline.operations().get(operation.getKey());
+            if (base == null) {
+                continue;
+            }
+            Histogram latencies = operation.getValue().latencies();
+            Histogram baseLatencies = base.latencies();
+            lines.add(String.format(COMPARISON_ROW, operation.getKey(),
+                    ratio(latencies.getTotalCount() * 1000.0 / duration.toMillis(),
+                            baseLatencies.getTotalCount() * 1000.0 / baseline.duration().toMillis()),
+                    ratio(latencies.getValueAtPercentile(99), baseLatencies.getValueAtPercentile(99))));
+        }
+        return lines;
+    }
+
+    private String row(String name, Histogram latencies, long errors) {
+        long requests = latencies.getTotalCount();
+        return String.format(ROW, name, requests, errors,
+                String.format("%.1f", requests * 1000.0 / duration.toMillis()),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static String ratio(double value, double baseline) {
+        return baseline == 0 ? "-" : String.format("%.2f", value / baseline);
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
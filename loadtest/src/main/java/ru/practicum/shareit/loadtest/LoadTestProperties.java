@@ -0,0 +1,27 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties("shareit.loadtest")
+public record LoadTestProperties(Seed seed, Workload workload) {
+    /**
+     * One user in {@code ownerShare} owns {@code itemsPerOwner} items; bookings and comments go to the rest.
+     */
+    public record Seed(boolean enabled, int users, int ownerShare, int itemsPerOwner, int requests, int bookings,
+                       int commentsPerItem, int batchSize) {
+    }
+
+    /**
+     * With {@code compareGatewayUrl} the same workload is run against that gateway afterwards and both are compared,
+     * e.g. a gateway and server started with virtual threads against a pair started without them.
+     */
+    public record Workload(String gatewayUrl, String compareGatewayUrl, int concurrency, Duration warmup,
+                           Duration duration, Map<Scenario, Integer> weights) {
+        public Workload against(String url) {
+            return new Workload(url, null, concurrency, warmup, duration, weights);
+        }
+    }
+}
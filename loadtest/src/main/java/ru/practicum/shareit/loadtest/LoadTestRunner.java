@@ -0,0 +1,38 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+    private final LoadTestProperties properties;
+    private final DatasetSeeder seeder;
+    private final WorkloadDriver driver;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.seed().enabled()) {
+            seeder.seed(properties.seed());
+        }
+        Dataset dataset = Dataset.load(jdbcTemplate);
+        log.info("Loaded {} users and {} available items", dataset.userIds().length, dataset.itemIds().length);
+        LoadTestProperties.Workload workload = properties.workload();
+        LoadReport report = driver.run(workload, dataset);
+        log.info("Results for {}", workload.gatewayUrl());
+        report.lines().forEach(log::info);
+        if (workload.compareGatewayUrl() != null) {
+            LoadReport other = driver.run(workload.against(workload.compareGatewayUrl()), dataset);
+            log.info("Results for {}", workload.compareGatewayUrl());
+            other.lines().forEach(log::info);
+            log.info("{} relative to {}", workload.compareGatewayUrl(), workload.gatewayUrl());
+            other.comparedTo(report).forEach(log::info);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.loadtest;
+
+public enum Scenario {
+    BOOKING,
+    ITEM_SEARCH,
+    OWNER_ITEMS,
+    OWNER_BOOKINGS,
+    REQUEST_FEED
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class ShareItLoadTest {
+
+	public static void main(String[] args) {
+		System.exit(SpringApplication.exit(SpringApplication.run(ShareItLoadTest.class, args)));
+	}
+}
@@ -0,0 +1,163 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop driver: every worker sends its next request as soon as the previous one completes, choosing the
+ * scenario by weight. Requests made during warmup are not recorded.
+ */
+@Slf4j
+@Component
+public class WorkloadDriver {
+    static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int PAGE_SIZE = 20;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public WorkloadDriver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public LoadReport run(LoadTestProperties.Workload workload, Dataset dataset) throws InterruptedException {
+        Run run = new Run(workload, dataset);
+        log.info("Warming up for {} with {} workers", workload.warmup(), workload.concurrency());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long warmupEnds = System.nanoTime() + workload.warmup().toNanos();
+            long ends = warmupEnds + workload.duration().toNanos();
+            for (int i = 0; i < workload.concurrency(); i++) {
+                workers.submit(() -> run.loop(warmupEnds, ends));
+            }
+            Thread.sleep(workload.warmup());
+            log.info("Measuring for {}", workload.duration());
+        }
+        return new LoadReport(workload.duration(), run.stats);
+    }
+
+    private final class Run {
+        private final String gatewayUrl;
+        private final Dataset dataset;
+        private final List<Scenario> scenarios = new ArrayList<>();
+        private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+        private Run(LoadTestProperties.Workload workload, Dataset dataset) {
+            this.gatewayUrl = workload.gatewayUrl();
+            this.dataset = dataset;
+            workload.weights().forEach((scenario, weight) -> {
+                for (int i = 0; i < weight; i++) {
+                    scenarios.add(scenario);
+                }
+            });
+        }
+
+        private void loop(long warmupEnds, long ends) {
+            while (System.nanoTime() < ends) {
+                boolean recording = System.nanoTime() >= warmupEnds;
+                Scenario scenario = scenarios.get(ThreadLocalRandom.current().nextInt(scenarios.size()));
+                try {
+                    execute(scenario, recording);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void execute(Scenario scenario, boolean recording) throws InterruptedException {
+            switch (scenario) {
+                case BOOKING -> book(recording);
+                case ITEM_SEARCH -> send("GET /items/search", recording, null,
+                        get("/items/search?text=" + word() + "&from=0&size=" + PAGE_SIZE));
+                case OWNER_ITEMS -> send("GET /items", recording, dataset.randomOwner(), get("/items"));
+                case OWNER_BOOKINGS -> send("GET /bookings/owner", recording, dataset.randomOwner(),
+                        get("/bookings/owner?state=ALL&size=" + PAGE_SIZE));
+                case REQUEST_FEED -> send("GET /requests/all", recording, dataset.randomUser(),
+                        get("/requests/all?size=" + PAGE_SIZE));
+            }
+        }
+
+        private void book(boolean recording) throws InterruptedException {
+            int item = dataset.randomItem();
+            long ownerId = dataset.itemOwnerIds()[item];
+            LocalDateTime start = LocalDateTime.now()
+                    .plusDays(1 + ThreadLocalRandom.current().nextInt(3650))
+                    .plusMinutes(ThreadLocalRandom.current().nextInt(24 * 60));
+            String body = "{\"itemId\":" + dataset.itemIds()[item]
+                    + ",\"start\":\"" + start + "\",\"end\":\"" + start.plusHours(2) + "\"}";
+            HttpResponse<byte[]> created = send("POST /bookings", recording, dataset.randomRenter(ownerId),
+                    HttpRequest.newBuilder(uri("/bookings"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body)));
+            if (created == null || created.statusCode() != 200) {
+                return;
+            }
+            send("PATCH /bookings/{id}", recording, ownerId,
+                    HttpRequest.newBuilder(uri("/bookings/" + bookingId(created) + "?approved=true"))
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private HttpResponse<byte[]> send(String operation, boolean recording, Long userId,
+                                          HttpRequest.Builder request) throws InterruptedException {
+            if (userId != null) {
+                request.header(USER_ID_HEADER, userId.toString());
+            }
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response;
+            try {
+                response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                response = null;
+            }
+            if (recording) {
+                stats.computeIfAbsent(operation, key -> new OperationStats())
+                        .record(System.nanoTime() - started, response != null && response.statusCode() < 300);
+            }
+            return response;
+        }
+
+        private long bookingId(HttpResponse<byte[]> response) {
+            try {
+                JsonNode booking = objectMapper.readTree(response.body());
+                return booking.get("id").asLong();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unexpected booking response", e);
+            }
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(uri(path)).GET();
+        }
+
+        private URI uri(String path) {
+            return URI.create(gatewayUrl + path);
+        }
+
+        private String word() {
+            List<String> vocabulary = DatasetSeeder.VOCABULARY;
+            return vocabulary.get(ThreadLocalRandom.current().nextInt(vocabulary.size())).split(" ")[0];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills an empty database through plain JDBC batches. Every owner gets {@link #ITEMS_PER_OWNER} items and bookings
+ * are spread evenly over items and bookers, half of them in the past and half in the future.
+ */
+final class BenchmarkDataSeeder {
+    static final int ITEMS_PER_OWNER = 10;
+    static final int OWNER_SHARE = 50;
+    static final int COMMENTS_PER_ITEM = 2;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    BenchmarkDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Volumes seed(int users, int bookings) {
+        int owners = Math.max(1, users / OWNER_SHARE);
+        int items = owners * ITEMS_PER_OWNER;
+        insert("INSERT INTO users (name, email) VALUES (?, ?)", users,
+                i -> new Object[]{"User " + i, "user" + i + "@example.com"});
+        long firstUser = firstId("user_id", "users");
+        insert("INSERT INTO items (name, description, is_available, owner_id) VALUES (?, ?, ?, ?)", items,
+                i -> new Object[]{"Item " + i, "Description of item " + i, i % 10 != 0, firstUser + i % owners});
+        long[] itemIds = jdbcTemplate.queryForList("SELECT item_id FROM items ORDER BY item_id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        insert("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)",
+                bookings, i -> {
+                    LocalDateTime start = now.plusDays(i / items - bookings / items / 2);
+                    return new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(12)),
+                            itemIds[i % items], firstUser + owners + (long) i * 7919 % (users - owners),
+                            i % 20 == 0 ? "WAITING" : "APPROVED"};
+                });
+        insert("INSERT INTO comments (text_comment, created_date, item_id, author_id) VALUES (?, ?, ?, ?)",
+                items * COMMENTS_PER_ITEM, i -> new Object[]{"Comment " + i, Timestamp.valueOf(now.minusDays(1)),
+                        itemIds[i % items], firstUser + owners + i % (users - owners)});
+        return new Volumes(firstUser, owners, users, itemIds);
+    }
+
+    private long firstId(String column, String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(" + column + ") FROM " + table, Long.class);
+    }
+
+    private void insert(String sql, int rows, Row row) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(row.values(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private interface Row {
+        Object[] values(int index);
+    }
+
+    record Volumes(long firstUser, int owners, int users, long[] itemIds) {
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.dto.BookingForItemDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class BenchmarkFixtures {
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder().id(id).name("User " + id).email("user" + id + "@example.com").build();
+    }
+
+    static Item item(long id, User owner) {
+        return Item.builder()
+                .id(id)
+                .name("Item " + id)
+                .description("Description of item " + id)
+                .available(true)
+                .owner(owner)
+                .build();
+    }
+
+    static Booking booking(long id, Item item, User booker) {
+        return Booking.builder()
+                .id(id)
+                .start(NOW.plusDays(id))
+                .end(NOW.plusDays(id + 1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
+    static BookingForItemDto bookingForItem(long id, long itemId) {
+        return BookingForItemDto.builder()
+                .id(id)
+                .start(NOW.minusDays(id + 1))
+                .end(NOW.minusDays(id))
+                .itemId(itemId)
+                .bookerId(id)
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
+    static List<CommentDto> comments(long itemId, int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> CommentDto.builder()
+                        .id(id)
+                        .text("Comment " + id + " on item " + itemId)
+                        .itemId(itemId)
+                        .authorName("User " + id)
+                        .created(NOW.minusHours(id))
+                        .build())
+                .toList();
+    }
+
+    static List<ItemRequest> requests(int count, User requestor) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> ItemRequest.builder()
+                        .id(id)
+                        .description("Need something for task " + id)
+                        .created(NOW.minusDays(id))
+                        .requestor(requestor)
+                        .build())
+                .toList();
+    }
+}
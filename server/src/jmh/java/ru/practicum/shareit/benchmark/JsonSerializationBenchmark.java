@@ -0,0 +1,76 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes response-sized lists with an {@link ObjectMapper} built the way Spring MVC builds its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    @Param({"20", "1000"})
+    int size;
+
+    ObjectWriter writer;
+    List<BookingDto> bookings;
+    List<ItemInfoDto> items;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        User owner = BenchmarkFixtures.user(1);
+        User booker = BenchmarkFixtures.user(2);
+        bookings = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> BenchmarkFixtures.booking(id, BenchmarkFixtures.item(id, owner), booker))
+                .map(BookingMapper.INSTANCE::toBookingDto)
+                .toList();
+        items = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> {
+                    Item item = BenchmarkFixtures.item(id, owner);
+                    return ItemMapper.INSTANCE.toItemInfoDto(item,
+                            BenchmarkFixtures.bookingForItem(id, id),
+                            BenchmarkFixtures.bookingForItem(id + 1, id),
+                            owner.getId(),
+                            BenchmarkFixtures.comments(id, 3));
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] bookingDtos() throws JsonProcessingException {
+        return writer.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] itemInfoDtos() throws JsonProcessingException {
+        return writer.writeValueAsBytes(items);
+    }
+}
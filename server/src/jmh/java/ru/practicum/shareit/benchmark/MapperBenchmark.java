@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingForItemDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param("20")
+    int requests;
+
+    Booking booking;
+    Item item;
+    BookingForItemDto lastBooking;
+    BookingForItemDto nextBooking;
+    List<CommentDto> comments;
+    List<ItemRequest> itemRequests;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkFixtures.user(1);
+        item = BenchmarkFixtures.item(1, owner);
+        booking = BenchmarkFixtures.booking(1, item, BenchmarkFixtures.user(2));
+        lastBooking = BenchmarkFixtures.bookingForItem(1, item.getId());
+        nextBooking = BenchmarkFixtures.bookingForItem(2, item.getId());
+        comments = BenchmarkFixtures.comments(item.getId(), 5);
+        itemRequests = BenchmarkFixtures.requests(requests, owner);
+    }
+
+    @Benchmark
+    public BookingDto toBookingDto() {
+        return BookingMapper.INSTANCE.toBookingDto(booking);
+    }
+
+    @Benchmark
+    public ItemInfoDto toItemInfoDto() {
+        return ItemMapper.INSTANCE.toItemInfoDto(item, lastBooking, nextBooking, item.getOwner().getId(), comments);
+    }
+
+    @Benchmark
+    public List<ItemRequestInfoDto> toWithItemsDto() {
+        return ItemRequestMapper.INSTANCE.toWithItemsDto(itemRequests);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.dashboard.service.OwnerDashboardProjector;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the services of a full application context backed by an in-memory H2 database seeded with
+ * {@link #users} users and {@link #bookings} bookings. Smaller volumes can be passed as {@code -p users=...}.
+ * The seeder writes through JDBC, so the owner read model is rebuilt afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ServiceBenchmark {
+    static final int PAGE_SIZE = 20;
+
+    @Param("100000")
+    int users;
+
+    @Param("1000000")
+    int bookings;
+
+    ConfigurableApplicationContext context;
+    ItemService itemService;
+    BookingService bookingService;
+    BenchmarkDataSeeder.Volumes volumes;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:shareit-benchmark;DB_CLOSE_DELAY=-1",
+                        "--shareit.logging.sample-rate=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        volumes = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)).seed(users, bookings);
+        context.getBean(OwnerDashboardProjector.class).rebuild();
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemInfoDto itemByIdForOwner() {
+        int itemIndex = ThreadLocalRandom.current().nextInt(volumes.itemIds().length);
+        long ownerId = volumes.firstUser() + itemIndex % volumes.owners();
+        return itemService.getById(ownerId, volumes.itemIds()[itemIndex]);
+    }
+
+    @Benchmark
+    public Collection<ItemInfoDto> itemsOfOwner() {
+        return itemService.getAllByUsersId(randomOwner());
+    }
+
+    @Benchmark
+    public CursorPage<BookingDto> bookingsOfBooker() {
+        long bookerId = volumes.firstUser() + volumes.owners()
+                + ThreadLocalRandom.current().nextInt(volumes.users() - volumes.owners());
+        return bookingService.getAllByUserId(bookerId, BookingState.ALL, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<BookingDto> bookingsOfOwner() {
+        return bookingService.getAllByOwnerId(randomOwner(), BookingState.ALL, null, PAGE_SIZE);
+    }
+
+    private long randomOwner() {
+        return volumes.firstUser() + ThreadLocalRandom.current().nextInt(volumes.owners());
+    }
+}
@@ -2,11 +2,13 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.CursorPage;
 
 import java.util.Collection;
 
@@ -39,14 +41,26 @@ public class BookingController {
     }
 
     @GetMapping
-    public Collection<BookingDto> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
-                                                 @RequestParam BookingState state) {
-        return bookingService.getAllByUserId(userId, state);
+    public ResponseEntity<Collection<BookingDto>> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                 @RequestParam BookingState state,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "50") int size) {
+        return toResponse(bookingService.getAllByUserId(userId, state, cursor, size));
     }
 
     @GetMapping("/owner")
-    public Collection<BookingDto> getAllByOwnerId(@RequestHeader(USER_ID_HEADER) long ownerId,
-                                                  @RequestParam BookingState state) {
-        return bookingService.getAllByOwnerId(ownerId, state);
+    public ResponseEntity<Collection<BookingDto>> getAllByOwnerId(@RequestHeader(USER_ID_HEADER) long ownerId,
+                                                                  @RequestParam BookingState state,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "50") int size) {
+        return toResponse(bookingService.getAllByOwnerId(ownerId, state, cursor, size));
+    }
+
+    private static ResponseEntity<Collection<BookingDto>> toResponse(CursorPage<BookingDto> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.content());
     }
 }
@@ -6,6 +6,9 @@ import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.dashboard.model.OwnerBooking;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
 
 @Mapper
 public interface BookingMapper {
@@ -38,5 +41,49 @@ public interface BookingMapper {
                 .build();
     }
 
+    default BookingDto toBookingDto(OwnerBooking booking) {
+        return BookingDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .item(BookingDto.Item.builder()
+                        .id(booking.getItemId())
+                        .name(booking.getItemName())
+                        .build())
+                .booker(BookingDto.Booker.builder()
+                        .id(booking.getBookerId())
+                        .build())
+                .status(booking.getStatus().name())
+                .build();
+    }
+
+    default BookingForItemDto toLastBookingDto(OwnerItemSummary summary) {
+        if (summary.getLastBookingId() == null) {
+            return null;
+        }
+        return BookingForItemDto.builder()
+                .id(summary.getLastBookingId())
+                .start(summary.getLastStart())
+                .end(summary.getLastEnd())
+                .itemId(summary.getItemId())
+                .bookerId(summary.getLastBookerId())
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
+    default BookingForItemDto toNextBookingDto(OwnerItemSummary summary) {
+        if (summary.getNextBookingId() == null) {
+            return null;
+        }
+        return BookingForItemDto.builder()
+                .id(summary.getNextBookingId())
+                .start(summary.getNextStart())
+                .end(summary.getNextEnd())
+                .itemId(summary.getItemId())
+                .bookerId(summary.getNextBookerId())
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
     Booking toBooking(BookingCreateDto bookingCreateDto);
 }
@@ -1,50 +1,66 @@
 package ru.practicum.shareit.booking.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(Long userId, LocalDateTime now, LocalDateTime now2);
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
-    List<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+            Long userId, LocalDateTime now, LocalDateTime now2, ScrollPosition position, Limit limit);
 
-    List<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findAllByBookerIdAndEndBeforeOrderByStartDescIdDesc(Long userId, LocalDateTime now,
+                                                                       ScrollPosition position, Limit limit);
 
-    List<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long userId, BookingStatus status);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findAllByBookerIdAndStartAfterOrderByStartDescIdDesc(Long userId, LocalDateTime now,
+                                                                        ScrollPosition position, Limit limit);
 
-    List<Booking> findAllByBookerIdOrderByStartDesc(Long userId);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findAllByBookerIdAndStatusOrderByStartDescIdDesc(Long userId, BookingStatus status,
+                                                                    ScrollPosition position, Limit limit);
 
-    List<Booking> findAllByItemOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(Long ownerId, LocalDateTime now, LocalDateTime now2);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findAllByBookerIdOrderByStartDescIdDesc(Long userId, ScrollPosition position, Limit limit);
 
-    List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(Long ownerId, LocalDateTime now);
+    Optional<Booking> findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDesc(Long itemId,
+                                                                                     BookingStatus status,
+                                                                                     LocalDateTime now);
 
-    List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(Long ownerId, LocalDateTime now);
+    Optional<Booking> findFirstByItemIdAndStatusAndStartGreaterThanEqualOrderByStartAsc(Long itemId,
+                                                                                       BookingStatus status,
+                                                                                       LocalDateTime now);
 
-    List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(Long ownerId, BookingStatus status);
+    boolean existsByItemIdAndBookerIdAndStatusAndStartLessThanEqual(Long itemId, Long bookerId,
+                                                                    BookingStatus status, LocalDateTime now);
 
-    List<Booking> findAllByItemOwnerIdOrderByStartDesc(Long ownerId);
-
-    @Query("SELECT b FROM Booking b " +
-            "WHERE b.item.id = :itemId " +
-            "AND b.start >= CURRENT_TIMESTAMP " +
-            "AND b.status = 'APPROVED' " +
-            "ORDER BY b.start ASC")
-    List<Booking> findUpcomingBookingsByItemId(@Param("itemId") Long itemId);
-
-    @Query("SELECT b FROM Booking b " +
+    @Query("SELECT new ru.practicum.shareit.booking.model.BookingInterval(b.id, b.start, b.end) " +
+            "FROM Booking b " +
             "WHERE b.item.id = :itemId " +
-            "AND b.start <= CURRENT_TIMESTAMP " +
-            "AND b.status = 'APPROVED' " +
-            "ORDER BY b.start DESC")
-    List<Booking> findLastBookingsByItemId(@Param("itemId") Long itemId);
+            "AND b.status IN :statuses " +
+            "AND b.end > :horizon")
+    List<BookingInterval> findIntervalsByItemId(@Param("itemId") Long itemId,
+                                                @Param("statuses") Collection<BookingStatus> statuses,
+                                                @Param("horizon") LocalDateTime horizon);
 
     @Query("SELECT b FROM Booking b " +
             "WHERE b.item.id = :itemId " +
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class BookingConflictChecker {
+    static final Set<BookingStatus> BLOCKING_STATUSES = EnumSet.of(BookingStatus.APPROVED, BookingStatus.WAITING);
+
+    private final BookingRepository bookingRepository;
+    private final ConflictCheckMode mode;
+    private final BookingIntervalIndex index;
+
+    public BookingConflictChecker(BookingRepository bookingRepository,
+                                  @Value("${shareit.booking.conflict-check:database}") ConflictCheckMode mode,
+                                  @Value("${shareit.booking.index.idle-timeout:10m}") Duration indexIdleTimeout) {
+        this.bookingRepository = bookingRepository;
+        this.mode = mode;
+        this.index = new BookingIntervalIndex((itemId, horizon) ->
+                bookingRepository.findIntervalsByItemId(itemId, BLOCKING_STATUSES, horizon), Clock.systemDefaultZone(),
+                indexIdleTimeout);
+    }
+
+    public boolean hasConflict(long itemId, LocalDateTime start, LocalDateTime end) {
+        return switch (mode) {
+            case DATABASE -> hasConflictInDatabase(itemId, start, end);
+            case INDEX -> index.hasConflict(itemId, start, end)
+                    .orElseGet(() -> hasConflictInDatabase(itemId, start, end));
+            case VERIFY -> verify(itemId, start, end);
+        };
+    }
+
+    public void onSaved(Booking booking) {
+        if (mode == ConflictCheckMode.DATABASE) {
+            return;
+        }
+        long itemId = booking.getItem().getId();
+        BookingInterval interval = new BookingInterval(booking.getId(), booking.getStart(), booking.getEnd());
+        boolean blocking = BLOCKING_STATUSES.contains(booking.getStatus());
+        afterCommit(() -> {
+            if (blocking) {
+                index.put(itemId, interval);
+            } else {
+                index.remove(itemId, interval.bookingId());
+            }
+        });
+    }
+
+    private boolean verify(long itemId, LocalDateTime start, LocalDateTime end) {
+        boolean fromDatabase = hasConflictInDatabase(itemId, start, end);
+        index.hasConflict(itemId, start, end)
+                .filter(fromIndex -> fromIndex != fromDatabase)
+                .ifPresent(fromIndex -> log.warn("Booking index mismatch for item {} [{} - {}]: index={}, database={}",
+                        itemId, start, end, fromIndex, fromDatabase));
+        return fromDatabase;
+    }
+
+    private boolean hasConflictInDatabase(long itemId, LocalDateTime start, LocalDateTime end) {
+        return !bookingRepository.findConflictingBookings(itemId, start, end).isEmpty();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
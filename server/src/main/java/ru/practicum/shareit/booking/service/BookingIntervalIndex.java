@@ -0,0 +1,212 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.model.BookingInterval;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Per-item sorted sets of blocking (APPROVED/WAITING) booking intervals.
+ * A timeline is loaded lazily on first access and holds every blocking interval that ends after its horizon,
+ * so overlap checks for periods starting at or after the horizon are answered without the database. Every check
+ * moves the horizon to the current time; timelines whose horizon is older than the idle timeout are dropped and
+ * reloaded on their next check, so only items booked recently stay in memory.
+ */
+public class BookingIntervalIndex {
+    private static final Comparator<BookingInterval> BY_START = Comparator
+            .comparing(BookingInterval::start)
+            .thenComparing(BookingInterval::bookingId);
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final BiFunction<Long, LocalDateTime, Collection<BookingInterval>> loader;
+    private final Clock clock;
+    private final Duration idleTimeout;
+    private final AtomicReference<LocalDateTime> nextEviction;
+
+    public BookingIntervalIndex(BiFunction<Long, LocalDateTime, Collection<BookingInterval>> loader, Clock clock,
+                                Duration idleTimeout) {
+        this.loader = loader;
+        this.clock = clock;
+        this.idleTimeout = idleTimeout;
+        this.nextEviction = new AtomicReference<>(LocalDateTime.now(clock).plus(idleTimeout));
+    }
+
+    /**
+     * Returns empty when the index cannot answer exactly and the caller has to ask the database.
+     */
+    public Optional<Boolean> hasConflict(long itemId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        evictIdle(now);
+        Timeline timeline = timelines.computeIfAbsent(itemId, id -> new Timeline());
+        timeline.lock.lock();
+        try {
+            if (timeline.evicted) {
+                return hasConflict(itemId, start, end);
+            }
+            if (!timeline.loaded) {
+                timeline.load(loader.apply(itemId, now), now);
+            } else {
+                timeline.prune(now);
+            }
+            if (start.isBefore(timeline.horizon) || !timeline.disjoint) {
+                return Optional.empty();
+            }
+            BookingInterval candidate = timeline.intervals.lower(new BookingInterval(Long.MIN_VALUE, end, end));
+            return Optional.of(candidate != null && candidate.overlaps(start, end));
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    public void put(long itemId, BookingInterval interval) {
+        Timeline timeline = timelines.get(itemId);
+        if (timeline == null) {
+            return;
+        }
+        timeline.lock.lock();
+        try {
+            if (timeline.loaded) {
+                timeline.remove(interval.bookingId());
+                timeline.add(interval);
+            }
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    public void remove(long itemId, long bookingId) {
+        Timeline timeline = timelines.get(itemId);
+        if (timeline == null) {
+            return;
+        }
+        timeline.lock.lock();
+        try {
+            timeline.remove(bookingId);
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    public int timelineCount() {
+        return timelines.size();
+    }
+
+    public int size() {
+        return timelines.values().stream().mapToInt(timeline -> {
+            timeline.lock.lock();
+            try {
+                return timeline.byBookingId.size();
+            } finally {
+                timeline.lock.unlock();
+            }
+        }).sum();
+    }
+
+    /**
+     * Runs at most once per idle timeout, on the thread of the first check after it elapsed. Timelines locked by a
+     * check in progress are in use and skipped.
+     */
+    private void evictIdle(LocalDateTime now) {
+        LocalDateTime scheduled = nextEviction.get();
+        if (now.isBefore(scheduled) || !nextEviction.compareAndSet(scheduled, now.plus(idleTimeout))) {
+            return;
+        }
+        LocalDateTime idleSince = now.minus(idleTimeout);
+        timelines.forEach((itemId, timeline) -> {
+            if (!timeline.lock.tryLock()) {
+                return;
+            }
+            try {
+                if (timeline.loaded && timeline.horizon.isBefore(idleSince)) {
+                    timeline.evicted = true;
+                    timelines.remove(itemId, timeline);
+                }
+            } finally {
+                timeline.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Guarded by a {@link ReentrantLock} rather than a monitor: the first check loads from the database while
+     * holding it, and a monitor would pin the carrier thread of a virtual thread for the whole query.
+     */
+    private static final class Timeline {
+        private final Lock lock = new ReentrantLock();
+        private final NavigableSet<BookingInterval> intervals = new TreeSet<>(BY_START);
+        private final Map<Long, BookingInterval> byBookingId = new HashMap<>();
+        private LocalDateTime horizon;
+        private boolean loaded;
+        private boolean evicted;
+        private boolean disjoint = true;
+
+        private void load(Collection<BookingInterval> loadedIntervals, LocalDateTime now) {
+            loadedIntervals.forEach(this::add);
+            horizon = now;
+            loaded = true;
+        }
+
+        private void add(BookingInterval interval) {
+            BookingInterval previous = intervals.lower(interval);
+            BookingInterval next = intervals.higher(interval);
+            if ((previous != null && previous.overlaps(interval.start(), interval.end()))
+                    || (next != null && next.overlaps(interval.start(), interval.end()))) {
+                disjoint = false;
+            }
+            intervals.add(interval);
+            byBookingId.put(interval.bookingId(), interval);
+        }
+
+        private void remove(long bookingId) {
+            BookingInterval removed = byBookingId.remove(bookingId);
+            if (removed == null) {
+                return;
+            }
+            intervals.remove(removed);
+            if (!disjoint) {
+                disjoint = checkDisjoint();
+            }
+        }
+
+        private void prune(LocalDateTime now) {
+            Iterator<BookingInterval> iterator = intervals.iterator();
+            while (iterator.hasNext()) {
+                BookingInterval interval = iterator.next();
+                if (interval.end().isAfter(now)) {
+                    break;
+                }
+                iterator.remove();
+                byBookingId.remove(interval.bookingId());
+            }
+            if (!disjoint) {
+                disjoint = checkDisjoint();
+            }
+            horizon = now;
+        }
+
+        private boolean checkDisjoint() {
+            BookingInterval previous = null;
+            for (BookingInterval interval : intervals) {
+                if (previous != null && previous.overlaps(interval.start(), interval.end())) {
+                    return false;
+                }
+                previous = interval;
+            }
+            return true;
+        }
+    }
+}
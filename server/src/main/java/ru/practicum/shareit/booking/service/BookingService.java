@@ -4,8 +4,7 @@ import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
-
-import java.util.Collection;
+import ru.practicum.shareit.pagination.CursorPage;
 
 @Service
 public interface BookingService {
@@ -15,7 +14,7 @@ public interface BookingService {
 
     BookingDto getById(long userId, long bookingId);
 
-    Collection<BookingDto> getAllByUserId(long userId, BookingState state);
+    CursorPage<BookingDto> getAllByUserId(long userId, BookingState state, String cursor, int size);
 
-    Collection<BookingDto> getAllByOwnerId(long ownerId, BookingState state);
+    CursorPage<BookingDto> getAllByOwnerId(long ownerId, BookingState state, String cursor, int size);
 }
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
@@ -11,33 +15,43 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.dashboard.model.OwnerBooking;
+import ru.practicum.shareit.dashboard.repository.OwnerBookingRepository;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.metrics.MetricsConfig;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxWriter;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserExistence userExistence;
+    private final BookingConflictChecker bookingConflictChecker;
+    private final ItemBookingLocks itemBookingLocks;
+    private final OutboxWriter outboxWriter;
+    private final OwnerBookingRepository ownerBookingRepository;
 
     @Override
     @Transactional
     public BookingDto create(long userId, BookingCreateDto bookingCreateDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
-        Item item = itemRepository.findById(bookingCreateDto.getItemId())
+        checkUserExistence(userId);
+        itemBookingLocks.lockUntilTransactionEnds(bookingCreateDto.getItemId());
+        Item item = itemRepository.findByIdForUpdate(bookingCreateDto.getItemId())
                 .orElseThrow(() -> new NotFoundException("Предмета с id=" + bookingCreateDto.getItemId() + " не существует"));
         if (Boolean.FALSE.equals(item.getAvailable())) {
             throw new IllegalArgumentException("Предмет с id=" + bookingCreateDto.getItemId() + " недоступен для бронирования");
@@ -45,23 +59,27 @@ public class BookingServiceImpl implements BookingService {
         if (Objects.equals(item.getOwner().getId(), userId)) {
             throw new NotFoundException("У вас не найдено такой брони");
         }
-        List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                bookingCreateDto.getItemId(), bookingCreateDto.getStart(), bookingCreateDto.getEnd());
-        if (!conflictingBookings.isEmpty()) {
+        if (bookingConflictChecker.hasConflict(
+                bookingCreateDto.getItemId(), bookingCreateDto.getStart(), bookingCreateDto.getEnd())) {
             throw new IllegalArgumentException("Данное бронирование пересекается с существующими бронированиями");
         }
         Booking booking = BookingMapper.INSTANCE.toBooking(bookingCreateDto);
-        booking.setBooker(user);
+        booking.setBooker(userRepository.getReferenceById(userId));
         booking.setItem(item);
         booking.setStatus(BookingStatus.WAITING);
-        return BookingMapper.INSTANCE.toBookingDto(bookingRepository.save(booking));
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingConflictChecker.onSaved(savedBooking);
+        BookingDto bookingDto = BookingMapper.INSTANCE.toBookingDto(savedBooking);
+        outboxWriter.record(OutboxEventType.BOOKING_CREATED, savedBooking.getId(), bookingDto);
+        return bookingDto;
     }
 
     @Override
     @Transactional
     public BookingDto updateStatus(long ownerId, long bookingId, boolean approved) {
-        userRepository.findById(ownerId)
-                .orElseThrow(() -> new IllegalArgumentException("Пользователя с id=" + ownerId + " не существует"));
+        if (!userExistence.exists(ownerId)) {
+            throw new IllegalArgumentException("Пользователя с id=" + ownerId + " не существует");
+        }
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Аренды с id=" + bookingId + " не существует"));
 
@@ -72,7 +90,12 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Нельзя подтвердить бронь, которая уже подтверждена.");
         }
         booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        return BookingMapper.INSTANCE.toBookingDto(bookingRepository.save(booking));
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingConflictChecker.onSaved(savedBooking);
+        BookingDto bookingDto = BookingMapper.INSTANCE.toBookingDto(savedBooking);
+        outboxWriter.record(approved ? OutboxEventType.BOOKING_APPROVED : OutboxEventType.BOOKING_REJECTED,
+                savedBooking.getId(), bookingDto);
+        return bookingDto;
     }
 
     @Override
@@ -87,42 +110,64 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public Collection<BookingDto> getAllByUserId(long userId, BookingState state) {
-        checkUserExistence(userId);
+    public CursorPage<BookingDto> getAllByUserId(long userId, BookingState state, String cursor, int size) {
         LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneId.systemDefault());
-        List<Booking> bookings = switch (state) {
+        ScrollPosition position = KeysetCursor.toScrollPosition(cursor, "start");
+        Limit limit = CursorPage.limit(size);
+        Window<Booking> bookings = switch (state) {
             case CURRENT -> bookingRepository
-                    .findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(userId, now, now);
-            case PAST -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(userId, now);
-            case FUTURE -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(userId, now);
-            case WAITING -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
-            case REJECTED ->
-                    bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
-            default -> bookingRepository.findAllByBookerIdOrderByStartDesc(userId);
+                    .findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+                            userId, now, now, position, limit);
+            case PAST -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDescIdDesc(
+                    userId, now, position, limit);
+            case FUTURE -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDescIdDesc(
+                    userId, now, position, limit);
+            case WAITING -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDescIdDesc(
+                    userId, BookingStatus.WAITING, position, limit);
+            case REJECTED -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDescIdDesc(
+                    userId, BookingStatus.REJECTED, position, limit);
+            default -> bookingRepository.findAllByBookerIdOrderByStartDescIdDesc(userId, position, limit);
         };
-        return bookings.stream().map(BookingMapper.INSTANCE::toBookingDto).collect(Collectors.toList());
+        if (bookings.isEmpty()) {
+            checkUserExistence(userId);
+        }
+        return toPage(bookings);
     }
 
     @Override
-    public Collection<BookingDto> getAllByOwnerId(long ownerId, BookingState state) {
-        checkUserExistence(ownerId);
+    public CursorPage<BookingDto> getAllByOwnerId(long ownerId, BookingState state, String cursor, int size) {
         LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneId.systemDefault());
-        List<Booking> bookings = switch (state) {
-            case CURRENT -> bookingRepository
-                    .findAllByItemOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(ownerId, now, now);
-            case PAST -> bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(ownerId, now);
-            case FUTURE -> bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(ownerId, now);
-            case WAITING ->
-                    bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(ownerId, BookingStatus.WAITING);
-            case REJECTED ->
-                    bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(ownerId, BookingStatus.REJECTED);
-            default -> bookingRepository.findAllByItemOwnerIdOrderByStartDesc(ownerId);
+        ScrollPosition position = KeysetCursor.toScrollPosition(cursor, "start");
+        Limit limit = CursorPage.limit(size);
+        Window<OwnerBooking> bookings = switch (state) {
+            case CURRENT -> ownerBookingRepository
+                    .findAllByOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+                            ownerId, now, now, position, limit);
+            case PAST -> ownerBookingRepository.findAllByOwnerIdAndEndBeforeOrderByStartDescIdDesc(
+                    ownerId, now, position, limit);
+            case FUTURE -> ownerBookingRepository.findAllByOwnerIdAndStartAfterOrderByStartDescIdDesc(
+                    ownerId, now, position, limit);
+            case WAITING -> ownerBookingRepository.findAllByOwnerIdAndStatusOrderByStartDescIdDesc(
+                    ownerId, BookingStatus.WAITING, position, limit);
+            case REJECTED -> ownerBookingRepository.findAllByOwnerIdAndStatusOrderByStartDescIdDesc(
+                    ownerId, BookingStatus.REJECTED, position, limit);
+            default -> ownerBookingRepository.findAllByOwnerIdOrderByStartDescIdDesc(ownerId, position, limit);
         };
-        return bookings.stream().map(BookingMapper.INSTANCE::toBookingDto).collect(Collectors.toList());
+        if (bookings.isEmpty()) {
+            checkUserExistence(ownerId);
+        }
+        return CursorPage.of(bookings, BookingMapper.INSTANCE::toBookingDto,
+                booking -> new KeysetCursor(booking.getStart(), booking.getId()));
+    }
+
+    private CursorPage<BookingDto> toPage(Window<Booking> bookings) {
+        return CursorPage.of(bookings, BookingMapper.INSTANCE::toBookingDto,
+                booking -> new KeysetCursor(booking.getStart(), booking.getId()));
     }
 
     private void checkUserExistence(long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
+        if (!userExistence.exists(userId)) {
+            throw new NotFoundException("Пользователя с id=" + userId + " не существует");
+        }
     }
 }
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.service;
+
+/**
+ * {@code INDEX} and {@code VERIFY} keep booking intervals in this instance's memory and see only the bookings it
+ * saved itself, so they are meant for single-instance deployments; {@code DATABASE} is the default.
+ */
+public enum ConflictCheckMode {
+    DATABASE,
+    INDEX,
+    VERIFY
+}
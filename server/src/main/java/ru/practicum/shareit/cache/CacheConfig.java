@@ -0,0 +1,30 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String USER_EXISTS = "userExists";
+
+    /**
+     * Puts and evictions issued inside a transaction are applied only after it commits.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${shareit.cache.users.spec}") String userCacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(userCacheSpec);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(USERS, USER_EXISTS));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfig {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String ITEM_REQUESTS = "item-requests";
+    public static final String ITEMS_BY_REQUEST = "items-by-request";
+    static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Bean
+    public EntityCacheRegions entityCacheRegions(EntityCacheProperties properties) {
+        return new EntityCacheRegions(properties.regions());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheRegions regions) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, regions.cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Creates every region up front from {@link EntityCacheProperties}; a region Hibernate asks for but which is
+     * not configured fails startup. Each context gets its own cache manager: Hibernate closes the manager when the
+     * session factory shuts down, and several application contexts in one JVM must neither share entries nor
+     * close each other's regions. The update timestamps region is never evicted: losing an entry would let the
+     * query cache serve stale results.
+     */
+    public static class EntityCacheRegions implements DisposableBean {
+        private final CacheManager cacheManager;
+
+        EntityCacheRegions(Map<String, EntityCacheProperties.Region> regions) {
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            cacheManager = provider.getCacheManager(URI.create("shareit-" + UUID.randomUUID()),
+                    provider.getDefaultClassLoader());
+            regions.forEach(this::create);
+            create(UPDATE_TIMESTAMPS, new EntityCacheProperties.Region(null, null));
+        }
+
+        @Override
+        public void destroy() {
+            cacheManager.close();
+        }
+
+        private void create(String name, EntityCacheProperties.Region region) {
+            cacheManager.createCache(name, new CaffeineConfiguration<>()
+                    .setMaximumSize(region.maximumSize() == null
+                            ? OptionalLong.empty() : OptionalLong.of(region.maximumSize()))
+                    .setExpireAfterWrite(region.expireAfterWrite() == null
+                            ? OptionalLong.empty() : OptionalLong.of(region.expireAfterWrite().toNanos()))
+                    .setStatisticsEnabled(true));
+        }
+    }
+}
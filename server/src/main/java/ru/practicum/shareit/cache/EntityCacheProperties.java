@@ -0,0 +1,15 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Size and TTL of each Hibernate second-level cache region, keyed by region name.
+ */
+@ConfigurationProperties("shareit.cache.entity")
+public record EntityCacheProperties(Map<String, Region> regions) {
+    public record Region(Long maximumSize, Duration expireAfterWrite) {
+    }
+}
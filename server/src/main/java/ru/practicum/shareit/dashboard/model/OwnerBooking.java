@@ -0,0 +1,46 @@
+package ru.practicum.shareit.dashboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking copied under the owner of its item, so the owner's booking list is read without joining items.
+ */
+@Entity
+@Immutable
+@Synchronize({"items", "bookings"})
+@Table(name = "owner_bookings")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OwnerBooking {
+    @Id
+    @Column(name = "booking_id")
+    private Long id;
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+    @Column(name = "item_name", nullable = false)
+    private String itemName;
+    @Column(name = "booker_id", nullable = false)
+    private Long bookerId;
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime start;
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime end;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private BookingStatus status;
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.dashboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row per item with what the owner's item list shows. Written by
+ * {@link ru.practicum.shareit.dashboard.service.OwnerDashboardProjector}; queries on it flush pending item, booking
+ * and comment changes first.
+ */
+@Entity
+@Immutable
+@Synchronize({"items", "bookings", "comments"})
+@Table(name = "owner_item_summaries")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OwnerItemSummary {
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    @Column(name = "name", nullable = false)
+    private String name;
+    @Column(name = "description")
+    private String description;
+    @Column(name = "is_available", nullable = false)
+    private Boolean available;
+    @Column(name = "last_booking_id")
+    private Long lastBookingId;
+    @Column(name = "last_booker_id")
+    private Long lastBookerId;
+    @Column(name = "last_start_date")
+    private LocalDateTime lastStart;
+    @Column(name = "last_end_date")
+    private LocalDateTime lastEnd;
+    @Column(name = "next_booking_id")
+    private Long nextBookingId;
+    @Column(name = "next_booker_id")
+    private Long nextBookerId;
+    @Column(name = "next_start_date")
+    private LocalDateTime nextStart;
+    @Column(name = "next_end_date")
+    private LocalDateTime nextEnd;
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    /**
+     * Last and next booking are computed against the time of the last write, so they are stale once the next
+     * booking has started.
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return nextStart != null && nextStart.isBefore(now);
+    }
+}
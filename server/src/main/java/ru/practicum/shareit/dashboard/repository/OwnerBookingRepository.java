@@ -0,0 +1,28 @@
+package ru.practicum.shareit.dashboard.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.dashboard.model.OwnerBooking;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OwnerBookingRepository extends JpaRepository<OwnerBooking, Long> {
+    Window<OwnerBooking> findAllByOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+            Long ownerId, LocalDateTime now, LocalDateTime now2, ScrollPosition position, Limit limit);
+
+    Window<OwnerBooking> findAllByOwnerIdAndEndBeforeOrderByStartDescIdDesc(Long ownerId, LocalDateTime now,
+                                                                           ScrollPosition position, Limit limit);
+
+    Window<OwnerBooking> findAllByOwnerIdAndStartAfterOrderByStartDescIdDesc(Long ownerId, LocalDateTime now,
+                                                                            ScrollPosition position, Limit limit);
+
+    Window<OwnerBooking> findAllByOwnerIdAndStatusOrderByStartDescIdDesc(Long ownerId, BookingStatus status,
+                                                                        ScrollPosition position, Limit limit);
+
+    Window<OwnerBooking> findAllByOwnerIdOrderByStartDescIdDesc(Long ownerId, ScrollPosition position, Limit limit);
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.dashboard.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
+
+import java.util.List;
+
+@Repository
+public interface OwnerItemSummaryRepository extends JpaRepository<OwnerItemSummary, Long> {
+    List<OwnerItemSummary> findAllByOwnerIdOrderByItemIdAsc(long ownerId);
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.dashboard.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.dashboard.model.OwnerBooking;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Feeds item, booking and comment writes made through Hibernate to the {@link OwnerDashboardProjector}, whatever
+ * service or repository made them, and applies them once a flush has sent the writes to the database. Bulk JPQL
+ * and plain JDBC writes are not seen and need {@link OwnerDashboardProjector#rebuild()}.
+ */
+@Component
+public class OwnerDashboardListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, FlushEventListener, AutoFlushEventListener {
+    private final OwnerDashboardProjector projector;
+
+    public OwnerDashboardListener(EntityManagerFactory entityManagerFactory, OwnerDashboardProjector projector) {
+        this.projector = projector;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.FLUSH, this);
+        registry.appendListeners(EventType.AUTO_FLUSH, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            projector.onItemCreated(item);
+        } else if (event.getEntity() instanceof Booking booking) {
+            projector.onBookingCreated(booking);
+        } else if (event.getEntity() instanceof Comment comment) {
+            projector.onCommentsChanged(comment.getItem().getId(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            projector.onItemUpdated(item);
+        } else if (event.getEntity() instanceof Booking booking) {
+            projector.onBookingUpdated(booking, wasApproved(event));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            projector.onItemDeleted(item);
+        } else if (event.getEntity() instanceof Booking booking) {
+            projector.onBookingDeleted(booking);
+        } else if (event.getEntity() instanceof Comment comment) {
+            projector.onCommentsChanged(comment.getItem().getId(), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        apply(event.getSession());
+    }
+
+    @Override
+    public void onAutoFlush(AutoFlushEvent event) {
+        apply(event.getSession());
+    }
+
+    /**
+     * Without the loaded state, as after a merge of a detached booking, the booking is assumed to have been approved.
+     */
+    private static boolean wasApproved(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return true;
+        }
+        int index = Arrays.asList(event.getPersister().getPropertyNames()).indexOf("status");
+        return oldState[index] == BookingStatus.APPROVED;
+    }
+
+    /**
+     * Read model rows are written behind Hibernate's back, so copies already loaded into the session are dropped.
+     */
+    private void apply(EventSource session) {
+        if (!projector.applyPending()) {
+            return;
+        }
+        for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal()
+                .reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof OwnerItemSummary || entry.getKey() instanceof OwnerBooking) {
+                session.evict(entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package ru.practicum.shareit.dashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps the owner read model ({@code owner_item_summaries} and {@code owner_bookings}) in step with items, bookings
+ * and comments. Changes are collected per transaction by {@link OwnerDashboardListener} and applied with JDBC
+ * batches at the end of each Hibernate flush, so the read model is committed or rolled back together with the
+ * change. Rows are updated in place from the written entities; only a change to an approved booking re-reads the
+ * item's last and next booking. That re-read first locks the summary row, so concurrent approvals of one item are
+ * applied one after another and the later transaction sees the earlier one's booking once it has committed. The
+ * drift check and {@link #rebuild()} cover writes made outside a transaction.
+ */
+@Slf4j
+@Component
+public class OwnerDashboardProjector {
+    private static final String INSERT_SUMMARY = "INSERT INTO owner_item_summaries "
+            + "(owner_id, name, description, is_available, comment_count, item_id) VALUES (?, ?, ?, ?, 0, ?)";
+    private static final String UPDATE_SUMMARY = "UPDATE owner_item_summaries "
+            + "SET name = ?, description = ?, is_available = ? WHERE item_id = ?";
+    private static final String RENAME_BOOKINGS = "UPDATE owner_bookings SET item_name = ? "
+            + "WHERE item_id = ? AND item_name <> ?";
+    private static final String INSERT_BOOKING = "INSERT INTO owner_bookings "
+            + "(owner_id, item_id, item_name, booker_id, start_date, end_date, status, booking_id) "
+            + "SELECT i.owner_id, b.item_id, i.name, b.booker_id, b.start_date, b.end_date, b.status, b.booking_id "
+            + "FROM bookings b JOIN items i ON i.item_id = b.item_id";
+    private static final String UPDATE_BOOKING = "UPDATE owner_bookings "
+            + "SET booker_id = ?, start_date = ?, end_date = ?, status = ? WHERE booking_id = ?";
+    private static final String ADD_COMMENTS = "UPDATE owner_item_summaries "
+            + "SET comment_count = comment_count + ? WHERE item_id = ?";
+    private static final String SELECT_LAST = "SELECT booking_id, booker_id, start_date, end_date FROM bookings "
+            + "WHERE item_id = ? AND status = 'APPROVED' AND start_date <= ? "
+            + "ORDER BY start_date DESC, booking_id LIMIT 1";
+    private static final String SELECT_NEXT = "SELECT booking_id, booker_id, start_date, end_date FROM bookings "
+            + "WHERE item_id = ? AND status = 'APPROVED' AND start_date >= ? "
+            + "ORDER BY start_date, booking_id LIMIT 1";
+    private static final String LOCK_SUMMARY = "SELECT item_id FROM owner_item_summaries WHERE item_id = ? FOR UPDATE";
+    private static final String UPDATE_LAST_AND_NEXT = "UPDATE owner_item_summaries "
+            + "SET last_booking_id = ?, last_booker_id = ?, last_start_date = ?, last_end_date = ?, "
+            + "next_booking_id = ?, next_booker_id = ?, next_start_date = ?, next_end_date = ? WHERE item_id = ?";
+    private static final String REBUILD_SUMMARIES = "INSERT INTO owner_item_summaries "
+            + "(owner_id, name, description, is_available, "
+            + "last_booking_id, last_booker_id, last_start_date, last_end_date, "
+            + "next_booking_id, next_booker_id, next_start_date, next_end_date, comment_count, item_id) "
+            + "SELECT i.owner_id, i.name, i.description, i.is_available, "
+            + "lb.booking_id, lb.booker_id, lb.start_date, lb.end_date, "
+            + "nb.booking_id, nb.booker_id, nb.start_date, nb.end_date, "
+            + "(SELECT COUNT(*) FROM comments c WHERE c.item_id = i.item_id), i.item_id "
+            + "FROM items i "
+            + "LEFT JOIN bookings lb ON lb.booking_id = (SELECT b.booking_id FROM bookings b "
+            + "WHERE b.item_id = i.item_id AND b.status = 'APPROVED' AND b.start_date <= ? "
+            + "ORDER BY b.start_date DESC, b.booking_id LIMIT 1) "
+            + "LEFT JOIN bookings nb ON nb.booking_id = (SELECT b.booking_id FROM bookings b "
+            + "WHERE b.item_id = i.item_id AND b.status = 'APPROVED' AND b.start_date >= ? "
+            + "ORDER BY b.start_date, b.booking_id LIMIT 1)";
+    private static final String SELECT_EXPIRED = "SELECT item_id FROM owner_item_summaries "
+            + "WHERE next_start_date < ? ORDER BY next_start_date LIMIT ?";
+    private static final String SELECT_DRIFT = "SELECT "
+            + "ABS((SELECT COUNT(*) FROM items) - (SELECT COUNT(*) FROM owner_item_summaries)) "
+            + "+ ABS((SELECT COUNT(*) FROM bookings) - (SELECT COUNT(*) FROM owner_bookings))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter untrackedCounter;
+
+    public OwnerDashboardProjector(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.untrackedCounter = Counter.builder("shareit.owner-dashboard.untracked").register(meterRegistry);
+    }
+
+    public void onItemCreated(Item item) {
+        PendingChanges changes = pendingChanges("item " + item.getId());
+        if (changes != null) {
+            changes.createdItems.put(item.getId(), ItemState.of(item));
+        }
+    }
+
+    public void onItemUpdated(Item item) {
+        PendingChanges changes = pendingChanges("item " + item.getId());
+        if (changes == null) {
+            return;
+        }
+        if (changes.createdItems.containsKey(item.getId())) {
+            changes.createdItems.put(item.getId(), ItemState.of(item));
+        } else {
+            changes.updatedItems.put(item.getId(), ItemState.of(item));
+        }
+    }
+
+    /**
+     * The summary and the owner's bookings of a deleted item go with it through their foreign keys.
+     */
+    public void onItemDeleted(Item item) {
+        PendingChanges changes = pendingChanges("item " + item.getId());
+        if (changes != null) {
+            changes.createdItems.remove(item.getId());
+            changes.updatedItems.remove(item.getId());
+            changes.itemsWithBookingChanges.remove(item.getId());
+            changes.commentDeltas.remove(item.getId());
+        }
+    }
+
+    public void onBookingCreated(Booking booking) {
+        PendingChanges changes = pendingChanges("booking " + booking.getId());
+        if (changes == null) {
+            return;
+        }
+        changes.createdBookings.add(booking.getId());
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            changes.itemsWithBookingChanges.add(booking.getItem().getId());
+        }
+    }
+
+    public void onBookingUpdated(Booking booking, boolean approvedBefore) {
+        PendingChanges changes = pendingChanges("booking " + booking.getId());
+        if (changes == null) {
+            return;
+        }
+        if (!changes.createdBookings.contains(booking.getId())) {
+            changes.updatedBookings.put(booking.getId(), BookingState.of(booking));
+        }
+        if (approvedBefore || booking.getStatus() == BookingStatus.APPROVED) {
+            changes.itemsWithBookingChanges.add(booking.getItem().getId());
+        }
+    }
+
+    public void onBookingDeleted(Booking booking) {
+        PendingChanges changes = pendingChanges("booking " + booking.getId());
+        if (changes == null) {
+            return;
+        }
+        changes.createdBookings.remove(booking.getId());
+        changes.updatedBookings.remove(booking.getId());
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            changes.itemsWithBookingChanges.add(booking.getItem().getId());
+        }
+    }
+
+    public void onCommentsChanged(long itemId, int delta) {
+        PendingChanges changes = pendingChanges("comment of item " + itemId);
+        if (changes != null) {
+            changes.commentDeltas.merge(itemId, delta, Integer::sum);
+        }
+    }
+
+    /**
+     * Writes the changes recorded since the previous call and returns whether there were any.
+     */
+    public boolean applyPending() {
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null || changes.isEmpty()) {
+            return false;
+        }
+        batchUpdate(INSERT_SUMMARY, changes.createdItems.values(), (statement, item) -> {
+            statement.setLong(1, item.ownerId());
+            statement.setString(2, item.name());
+            statement.setString(3, item.description());
+            statement.setBoolean(4, item.available());
+            statement.setLong(5, item.id());
+        });
+        batchUpdate(UPDATE_SUMMARY, changes.updatedItems.values(), (statement, item) -> {
+            statement.setString(1, item.name());
+            statement.setString(2, item.description());
+            statement.setBoolean(3, item.available());
+            statement.setLong(4, item.id());
+        });
+        batchUpdate(RENAME_BOOKINGS, changes.updatedItems.values(), (statement, item) -> {
+            statement.setString(1, item.name());
+            statement.setLong(2, item.id());
+            statement.setString(3, item.name());
+        });
+        batchUpdate(INSERT_BOOKING + " WHERE b.booking_id = ?", changes.createdBookings,
+                (statement, bookingId) -> statement.setLong(1, bookingId));
+        batchUpdate(UPDATE_BOOKING, changes.updatedBookings.values(), (statement, booking) -> {
+            statement.setLong(1, booking.bookerId());
+            statement.setTimestamp(2, Timestamp.valueOf(booking.start()));
+            statement.setTimestamp(3, Timestamp.valueOf(booking.end()));
+            statement.setString(4, booking.status().name());
+            statement.setLong(5, booking.id());
+        });
+        batchUpdate(ADD_COMMENTS, changes.commentDeltas.entrySet(), (statement, delta) -> {
+            statement.setInt(1, delta.getValue());
+            statement.setLong(2, delta.getKey());
+        });
+        refreshLastAndNext(changes.itemsWithBookingChanges, LocalDateTime.now());
+        changes.clear();
+        return true;
+    }
+
+    /**
+     * Recomputes summaries whose next booking has started, at most {@code limit} of them, and returns their number.
+     */
+    public int refreshExpired(LocalDateTime now, int limit) {
+        List<Long> itemIds = jdbcTemplate.queryForList(SELECT_EXPIRED, Long.class, Timestamp.valueOf(now), limit);
+        refreshLastAndNext(itemIds, now);
+        return itemIds.size();
+    }
+
+    /**
+     * Returns how many rows the read model is missing or has in excess of items and bookings. Rows that exist but
+     * hold stale values are not detected.
+     */
+    public long drift() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(SELECT_DRIFT, Long.class));
+    }
+
+    /**
+     * Recreates the whole read model from items, bookings and comments. Meant for recovery after writes that
+     * bypassed Hibernate, such as SQL run by hand or the load test seeder.
+     */
+    @Transactional
+    public void rebuild() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM owner_bookings");
+        int bookings = jdbcTemplate.update(INSERT_BOOKING);
+        jdbcTemplate.update("DELETE FROM owner_item_summaries");
+        int items = jdbcTemplate.update(REBUILD_SUMMARIES, now, now);
+        log.info("Owner dashboard rebuilt: {} items, {} bookings", items, bookings);
+    }
+
+    /**
+     * Rows are locked in item id order, so transactions refreshing several items cannot deadlock each other.
+     */
+    private void refreshLastAndNext(Collection<Long> itemIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        batchUpdate(UPDATE_LAST_AND_NEXT, itemIds.stream().sorted().toList(), (statement, itemId) -> {
+            jdbcTemplate.queryForList(LOCK_SUMMARY, Long.class, itemId);
+            setBooking(statement, 1, jdbcTemplate.queryForList(SELECT_LAST, itemId, timestamp));
+            setBooking(statement, 5, jdbcTemplate.queryForList(SELECT_NEXT, itemId, timestamp));
+            statement.setLong(9, itemId);
+        });
+    }
+
+    private static void setBooking(PreparedStatement statement, int index, List<Map<String, Object>> rows)
+            throws SQLException {
+        Map<String, Object> booking = rows.isEmpty() ? Map.of() : rows.getFirst();
+        statement.setObject(index, booking.get("booking_id"));
+        statement.setObject(index + 1, booking.get("booker_id"));
+        statement.setObject(index + 2, booking.get("start_date"));
+        statement.setObject(index + 3, booking.get("end_date"));
+    }
+
+    private <T> void batchUpdate(String sql, Collection<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows, rows.size(), setter);
+        }
+    }
+
+    private PendingChanges pendingChanges(String subject) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            untrackedCounter.increment();
+            log.warn("Write of {} outside a transaction is not projected to the owner dashboard", subject);
+            return null;
+        }
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    private record ItemState(long id, long ownerId, String name, String description, boolean available) {
+        static ItemState of(Item item) {
+            return new ItemState(item.getId(), item.getOwner().getId(), item.getName(), item.getDescription(),
+                    Boolean.TRUE.equals(item.getAvailable()));
+        }
+    }
+
+    private record BookingState(long id, long bookerId, LocalDateTime start, LocalDateTime end,
+                                BookingStatus status) {
+        static BookingState of(Booking booking) {
+            return new BookingState(booking.getId(), booking.getBooker().getId(), booking.getStart(),
+                    booking.getEnd(), booking.getStatus());
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+        private final Map<Long, ItemState> createdItems = new LinkedHashMap<>();
+        private final Map<Long, ItemState> updatedItems = new LinkedHashMap<>();
+        private final Set<Long> createdBookings = new LinkedHashSet<>();
+        private final Map<Long, BookingState> updatedBookings = new LinkedHashMap<>();
+        private final Map<Long, Integer> commentDeltas = new LinkedHashMap<>();
+        private final Set<Long> itemsWithBookingChanges = new LinkedHashSet<>();
+
+        boolean isEmpty() {
+            return createdItems.isEmpty() && updatedItems.isEmpty() && createdBookings.isEmpty()
+                    && updatedBookings.isEmpty() && commentDeltas.isEmpty() && itemsWithBookingChanges.isEmpty();
+        }
+
+        void clear() {
+            createdItems.clear();
+            updatedItems.clear();
+            createdBookings.clear();
+            updatedBookings.clear();
+            commentDeltas.clear();
+            itemsWithBookingChanges.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OwnerDashboardProjector.this);
+        }
+    }
+}
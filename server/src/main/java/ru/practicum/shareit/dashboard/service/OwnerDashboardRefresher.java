@@ -0,0 +1,124 @@
+package ru.practicum.shareit.dashboard.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves next bookings that have started into the last booking slot of their summaries. Until that happens the
+ * item list recomputes such summaries on read, so this only keeps reads cheap. It also compares the row counts of
+ * the read model with its sources and publishes the difference as {@code shareit.owner-dashboard.drift}. With
+ * {@code shareit.owner-dashboard.rebuild-on-startup} the read model is recreated before the first refresh.
+ */
+@Slf4j
+@Component
+public class OwnerDashboardRefresher {
+    private final OwnerDashboardProjector projector;
+    private final TransactionTemplate transaction;
+    private final boolean rebuildOnStartup;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final long driftCheckIntervalMillis;
+    private final AtomicLong drift = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("owner-dashboard-refresher").daemon().factory());
+
+    public OwnerDashboardRefresher(OwnerDashboardProjector projector, PlatformTransactionManager transactionManager,
+                                   @Value("${shareit.owner-dashboard.rebuild-on-startup:false}")
+                                   boolean rebuildOnStartup,
+                                   @Value("${shareit.owner-dashboard.refresh.enabled:true}") boolean enabled,
+                                   @Value("${shareit.owner-dashboard.refresh.batch-size:500}") int batchSize,
+                                   @Value("${shareit.owner-dashboard.refresh.interval-ms:60000}")
+                                   long intervalMillis,
+                                   @Value("${shareit.owner-dashboard.drift-check.interval-ms:600000}")
+                                   long driftCheckIntervalMillis,
+                                   MeterRegistry meterRegistry) {
+        this.projector = projector;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.driftCheckIntervalMillis = driftCheckIntervalMillis;
+        Gauge.builder("shareit.owner-dashboard.drift", drift, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (rebuildOnStartup) {
+            projector.rebuild();
+        }
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (driftCheckIntervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::checkDriftQuietly, 0, driftCheckIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Refreshes expired summaries in batches and returns their number.
+     */
+    public synchronized int refreshExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int refreshed;
+        do {
+            refreshed = Objects.requireNonNull(transaction.execute(status -> projector.refreshExpired(now, batchSize)));
+            total += refreshed;
+        } while (refreshed == batchSize);
+        return total;
+    }
+
+    /**
+     * Counts the rows the read model is missing or has in excess, publishes and returns the number.
+     */
+    public long checkDrift() {
+        long rows = projector.drift();
+        drift.set(rows);
+        if (rows > 0) {
+            log.warn("Owner dashboard differs from items and bookings by {} rows, "
+                    + "start with shareit.owner-dashboard.rebuild-on-startup=true to rebuild it", rows);
+        }
+        return rows;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refreshExpired();
+        } catch (RuntimeException e) {
+            log.warn("Owner dashboard refresh failed, retrying in {} ms", intervalMillis, e);
+        }
+    }
+
+    private void checkDriftQuietly() {
+        try {
+            checkDrift();
+        } catch (RuntimeException e) {
+            log.warn("Owner dashboard drift check failed, retrying in {} ms", driftCheckIntervalMillis, e);
+        }
+    }
+}
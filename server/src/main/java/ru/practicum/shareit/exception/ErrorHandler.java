@@ -1,11 +1,17 @@
 
 package ru.practicum.shareit.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.constants.UserIdHttpHeader;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
@@ -13,7 +19,10 @@ import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ErrorHandler {
+    private final UserExistence userExistence;
+
     @ExceptionHandler({IllegalArgumentException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorMessage handleMethodArgumentNotValidException(final Exception e) {
@@ -28,6 +37,21 @@ public class ErrorHandler {
         return new ErrorMessage(e.getMessage());
     }
 
+    /**
+     * {@link UserExistence} caches positive answers, so a write can pass the check and still reference a user that
+     * another instance has just deleted. The transaction is rolled back by now, so the user is looked up again.
+     */
+    @ExceptionHandler
+    public ResponseEntity<ErrorMessage> handleDataIntegrityViolationException(final DataIntegrityViolationException e,
+                                                                              final HttpServletRequest request) {
+        String userId = request.getHeader(UserIdHttpHeader.USER_ID_HEADER);
+        if (userId != null && !userExistence.recheck(Long.parseLong(userId))) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(handleNotFoundException(
+                    new NotFoundException("Пользователя с id=" + userId + " не существует")));
+        }
+        return ResponseEntity.internalServerError().body(handleException(e));
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorMessage handleException(final Exception e) {
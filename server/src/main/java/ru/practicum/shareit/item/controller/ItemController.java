@@ -1,7 +1,10 @@
 package ru.practicum.shareit.item.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -15,12 +18,17 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
 
@@ -30,6 +38,7 @@ import static ru.practicum.shareit.constants.UserIdHttpHeader.USER_ID_HEADER;
 @RequestMapping("/items")
 public class ItemController {
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public Collection<ItemInfoDto> getAllByUsersId(@RequestHeader(USER_ID_HEADER) long userId) {
@@ -47,6 +56,50 @@ public class ItemController {
         return itemService.create(userId, itemCreateDto);
     }
 
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ItemImportResultDto importItems(@RequestHeader(USER_ID_HEADER) long userId,
+                                           @RequestBody List<ItemCreateDto> items) {
+        return itemService.importItems(userId, items.iterator());
+    }
+
+    /**
+     * Rows are read one at a time while the import runs, so the stream is never held in memory as a whole.
+     */
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ItemImportResultDto importItemStream(@RequestHeader(USER_ID_HEADER) long userId,
+                                                InputStream body) throws IOException {
+        try (MappingIterator<ItemCreateDto> items = objectMapper.readerFor(ItemCreateDto.class).readValues(body)) {
+            return itemService.importItems(userId, rejectingMalformedLines(items));
+        }
+    }
+
+    private static Iterator<ItemCreateDto> rejectingMalformedLines(MappingIterator<ItemCreateDto> items) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return items.hasNext();
+                } catch (RuntimeException e) {
+                    throw malformed(e);
+                }
+            }
+
+            @Override
+            public ItemCreateDto next() {
+                try {
+                    return items.next();
+                } catch (RuntimeException e) {
+                    throw malformed(e);
+                }
+            }
+
+            private IllegalArgumentException malformed(RuntimeException e) {
+                return new IllegalArgumentException("Строка " + items.getCurrentLocation().getLineNr()
+                        + " не является корректным JSON", e);
+            }
+        };
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto update(@RequestHeader(USER_ID_HEADER) long userId,
                           @PathVariable long itemId,
@@ -61,8 +114,10 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public Collection<ItemDto> getAllByText(@RequestParam String text) {
-        return text.isEmpty() ? Collections.emptyList() : itemService.getAllByText(text);
+    public Collection<ItemDto> getAllByText(@RequestParam String text,
+                                            @RequestParam(defaultValue = "0") int from,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return text.isEmpty() ? Collections.emptyList() : itemService.getAllByText(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
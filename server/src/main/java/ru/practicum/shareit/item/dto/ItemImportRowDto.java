@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ItemImportRowDto {
+    private int index;
+    private Status status;
+    private Long id;
+    private String error;
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+}
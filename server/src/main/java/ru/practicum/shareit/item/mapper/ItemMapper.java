@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
 import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
@@ -36,6 +37,19 @@ public interface ItemMapper {
                 .build();
     }
 
+    default ItemInfoDto toItemInfoDto(OwnerItemSummary summary, BookingForItemDto lastBooking,
+                                      BookingForItemDto nextBooking, Collection<CommentDto> comments) {
+        return ItemInfoDto.builder()
+                .id(summary.getItemId())
+                .name(summary.getName())
+                .description(summary.getDescription())
+                .available(summary.getAvailable())
+                .lastBooking(lastBooking)
+                .nextBooking(nextBooking)
+                .comments(comments)
+                .build();
+    }
+
     default ItemForRequestDto toItemForRequestDto(Item item) {
         return ItemForRequestDto.builder()
                 .id(item.getId())
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.model;
+
+public record ItemSearchDocument(Long id, String name, String description, Boolean available) {
+    public static ItemSearchDocument of(Item item) {
+        return new ItemSearchDocument(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+    }
+
+    public Item toItem() {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+}
@@ -1,23 +1,59 @@
 package ru.practicum.shareit.item.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.cache.EntityCacheConfig;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchDocument;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findAllByOwnerId(long ownerId);
-
     @Query("SELECT i FROM Item i WHERE i.available = true " +
-            "AND (i.name ILIKE CONCAT('%', :text, '%') " +
-            "OR i.description ILIKE CONCAT('%', :text, '%'))")
-    List<Item> searchByText(@Param("text") String text);
+            "AND (LOWER(i.name) LIKE :pattern ESCAPE '\\' OR LOWER(i.description) LIKE :pattern ESCAPE '\\') " +
+            "ORDER BY CASE WHEN LOWER(i.name) = :text THEN 0 " +
+            "WHEN LOWER(i.name) LIKE :prefix ESCAPE '\\' THEN 1 " +
+            "WHEN LOWER(i.name) LIKE :pattern ESCAPE '\\' THEN 2 " +
+            "ELSE 3 END, i.id " +
+            "LIMIT :limit OFFSET :offset")
+    List<Item> searchRankedByPattern(@Param("text") String text, @Param("prefix") String prefix,
+                                     @Param("pattern") String pattern, @Param("offset") int offset,
+                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT i.* FROM items i WHERE i.is_available " +
+            "AND (i.name ILIKE :pattern OR i.description ILIKE :pattern) " +
+            "ORDER BY (LOWER(i.name) = :text) DESC, " +
+            "GREATEST(word_similarity(:text, i.name) * 2, word_similarity(:text, i.description)) DESC, " +
+            "i.item_id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Item> searchRankedByTrigram(@Param("text") String text, @Param("pattern") String pattern,
+                                     @Param("offset") int offset, @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") long itemId);
 
-    void deleteByIdAndOwnerId(long userId, long itemId);
+    @Query("SELECT new ru.practicum.shareit.item.model.ItemSearchDocument(i.id, i.name, i.description, i.available) " +
+            "FROM Item i")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ItemSearchDocument> streamSearchDocuments();
 
+    long deleteByIdAndOwnerId(long itemId, long ownerId);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.ITEMS_BY_REQUEST)})
     List<Item> findAllByRequestId(long requestId);
+
+    List<Item> findAllByRequestIdIn(Collection<Long> requestIds);
 }
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.item.service;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxWriter;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.RequestMatcher;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists imported items in the caller's transaction. Item ids come from a pooled sequence, so Hibernate sends the
+ * inserts in JDBC batches; the persistence context is flushed and cleared every {@code flushSize} rows so managed
+ * entities do not pile up. Memory still grows with the import: the row report, the outbox payloads and the
+ * search index and request matcher updates are held until the transaction commits.
+ */
+@Component
+public class ItemImporter {
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearcher itemSearcher;
+    private final RequestMatcher requestMatcher;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
+    private final int flushSize;
+
+    public ItemImporter(ItemRepository itemRepository,
+                        UserRepository userRepository,
+                        ItemRequestRepository itemRequestRepository,
+                        ItemSearcher itemSearcher,
+                        RequestMatcher requestMatcher,
+                        OutboxWriter outboxWriter,
+                        EntityManager entityManager,
+                        @Value("${shareit.item.import.flush-size:500}") int flushSize) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.itemSearcher = itemSearcher;
+        this.requestMatcher = requestMatcher;
+        this.outboxWriter = outboxWriter;
+        this.entityManager = entityManager;
+        this.flushSize = flushSize;
+    }
+
+    ItemImportResultDto importItems(long userId, Iterator<ItemCreateDto> items) {
+        Map<Long, Optional<ItemRequest>> requests = new HashMap<>();
+        List<ItemImportRowDto> rows = new ArrayList<>();
+        int created = 0;
+        int pending = 0;
+        for (int index = 0; items.hasNext(); index++) {
+            ItemCreateDto itemCreateDto = items.next();
+            String error = validate(itemCreateDto);
+            Optional<ItemRequest> request = Optional.empty();
+            if (error == null && itemCreateDto.getRequestId() != null) {
+                request = requests.computeIfAbsent(itemCreateDto.getRequestId(), itemRequestRepository::findById);
+                if (request.isEmpty()) {
+                    error = "Запроса с id=" + itemCreateDto.getRequestId() + " не существует";
+                }
+            }
+            if (error != null) {
+                rows.add(ItemImportRowDto.builder()
+                        .index(index)
+                        .status(ItemImportRowDto.Status.REJECTED)
+                        .error(error)
+                        .build());
+                continue;
+            }
+            Item item = ItemMapper.INSTANCE.toItem(itemCreateDto);
+            item.setOwner(userRepository.getReferenceById(userId));
+            request.ifPresent(item::setRequest);
+            Item savedItem = itemRepository.save(item);
+            itemSearcher.onSaved(savedItem);
+            requestMatcher.onItemCreated(savedItem);
+            outboxWriter.record(OutboxEventType.ITEM_CREATED, savedItem.getId(),
+                    ItemMapper.INSTANCE.toItemDto(savedItem));
+            rows.add(ItemImportRowDto.builder()
+                    .index(index)
+                    .status(ItemImportRowDto.Status.CREATED)
+                    .id(savedItem.getId())
+                    .build());
+            created++;
+            if (++pending == flushSize) {
+                entityManager.flush();
+                entityManager.clear();
+                requests.clear();
+                pending = 0;
+            }
+        }
+        return ItemImportResultDto.builder()
+                .created(created)
+                .rejected(rows.size() - created)
+                .rows(rows)
+                .build();
+    }
+
+    private static String validate(ItemCreateDto itemCreateDto) {
+        if (itemCreateDto == null) {
+            return "Строка импорта пуста";
+        }
+        if (itemCreateDto.getName() == null || itemCreateDto.getName().isBlank()) {
+            return "Название предмета не может быть пустым";
+        }
+        if (itemCreateDto.getName().length() > ItemServiceImpl.MAX_SIZE_NAME) {
+            return "Название предмета не может быть длиннее " + ItemServiceImpl.MAX_SIZE_NAME + " символов";
+        }
+        if (itemCreateDto.getDescription() == null || itemCreateDto.getDescription().isBlank()) {
+            return "Описание предмета не может быть пустым";
+        }
+        if (itemCreateDto.getDescription().length() > ItemServiceImpl.MAX_SIZE_DESCRIPTION) {
+            return "Описание предмета не может быть длиннее " + ItemServiceImpl.MAX_SIZE_DESCRIPTION + " символов";
+        }
+        if (itemCreateDto.getAvailable() == null) {
+            return "Доступность предмета должна быть указана";
+        }
+        return null;
+    }
+}
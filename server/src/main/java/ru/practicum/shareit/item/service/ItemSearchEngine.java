@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ItemSearchEngine {
+    /**
+     * Returns available items matching {@code text} (already lower-cased), best matches first.
+     */
+    List<Item> search(String text, int offset, int limit);
+}
@@ -0,0 +1,215 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.model.ItemSearchDocument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over lower-cased item names and descriptions.
+ * Each document gets a slot; posting lists and the available filter are bitmaps over slots.
+ * Candidates from the posting lists are re-checked against the text, so results match the LIKE search exactly.
+ * Until {@link #markReady()} the index is being rebuilt: documents loaded by the rebuild never overwrite
+ * documents already changed by {@link #put} or {@link #remove}.
+ */
+public class ItemSearchIndex {
+    private static final int GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Entry> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final BitSet available = new BitSet();
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+
+    public void put(ItemSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                changedDuringRebuild.add(document.id());
+            }
+            replace(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                changedDuringRebuild.add(itemId);
+            }
+            unindex(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void load(ItemSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (!changedDuringRebuild.contains(document.id())) {
+                replace(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ranks like {@code ItemRepository.searchRankedByPattern}: exact name, name prefix, name substring,
+     * description substring, then id.
+     */
+    public List<ItemSearchDocument> search(String text, int offset, int limit) {
+        List<Entry> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) available.clone();
+            if (text.length() >= GRAM) {
+                for (String gram : grams(text)) {
+                    BitSet posting = postings.get(gram);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    candidates.and(posting);
+                }
+            }
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Entry entry = slots.get(slot);
+                if (entry.rank(text) >= 0) {
+                    matches.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches.stream()
+                .sorted(Comparator.<Entry>comparingInt(entry -> entry.rank(text))
+                        .thenComparing(entry -> entry.document.id()))
+                .skip(offset)
+                .limit(limit)
+                .map(Entry::document)
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(ItemSearchDocument document) {
+        unindex(document.id());
+        Entry entry = new Entry(document);
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slots.size();
+            slots.add(entry);
+        } else {
+            slot = freeSlots.pop();
+            slots.set(slot, entry);
+        }
+        slotById.put(document.id(), slot);
+        for (String gram : entry.grams) {
+            postings.computeIfAbsent(gram, key -> new BitSet()).set(slot);
+        }
+        available.set(slot, Boolean.TRUE.equals(document.available()));
+    }
+
+    private void unindex(long itemId) {
+        Integer slot = slotById.remove(itemId);
+        if (slot == null) {
+            return;
+        }
+        for (String gram : slots.get(slot).grams) {
+            BitSet posting = postings.get(gram);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        available.clear(slot);
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static final class Entry {
+        private final ItemSearchDocument document;
+        private final String name;
+        private final String description;
+        private final Set<String> grams;
+
+        private Entry(ItemSearchDocument document) {
+            this.document = document;
+            this.name = document.name() == null ? "" : document.name().toLowerCase(Locale.ROOT);
+            this.description = document.description() == null ? "" : document.description().toLowerCase(Locale.ROOT);
+            this.grams = grams(name);
+            this.grams.addAll(grams(description));
+        }
+
+        private ItemSearchDocument document() {
+            return document;
+        }
+
+        private int rank(String text) {
+            if (name.equals(text)) {
+                return 0;
+            }
+            if (name.startsWith(text)) {
+                return 1;
+            }
+            if (name.contains(text)) {
+                return 2;
+            }
+            return description.contains(text) ? 3 : -1;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchDocument;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class ItemSearcher {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ItemRepository itemRepository;
+    private final ItemSearchMode mode;
+    private final int maxResults;
+    private final ItemSearchEngine databaseEngine;
+    private final ItemSearchIndex index = new ItemSearchIndex();
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer indexTimer;
+    private final Timer databaseTimer;
+
+    public ItemSearcher(ItemRepository itemRepository, DataSource dataSource,
+                        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                        @Value("${shareit.item.search.engine:database}") ItemSearchMode mode,
+                        @Value("${shareit.item.search.max-results:1000}") int maxResults) {
+        this.itemRepository = itemRepository;
+        this.mode = mode;
+        this.maxResults = maxResults;
+        this.databaseEngine = isPostgres(dataSource) ? trigramEngine(itemRepository) : patternEngine(itemRepository);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexTimer = Timer.builder("shareit.item.search").tag("engine", "index").register(meterRegistry);
+        this.databaseTimer = Timer.builder("shareit.item.search").tag("engine", "database").register(meterRegistry);
+        if (mode == ItemSearchMode.INDEX) {
+            Gauge.builder("shareit.item.search.index.documents", index, ItemSearchIndex::size)
+                    .register(meterRegistry);
+            Gauge.builder("shareit.item.search.index.terms", index, ItemSearchIndex::termCount)
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Item> search(String text, int from, int size) {
+        if (from < 0) {
+            throw new IllegalArgumentException("Параметр from не может быть отрицательным");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Размер страницы должен быть положительным");
+        }
+        String normalized = text.strip().toLowerCase(Locale.ROOT);
+        int limit = Math.min(Math.min(size, MAX_PAGE_SIZE), maxResults - from);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (mode == ItemSearchMode.INDEX && index.isReady()) {
+            return indexTimer.record(() -> index.search(normalized, from, limit).stream()
+                    .map(ItemSearchDocument::toItem)
+                    .toList());
+        }
+        return databaseTimer.record(() -> databaseEngine.search(normalized, from, limit));
+    }
+
+    public void onSaved(Item item) {
+        if (mode == ItemSearchMode.INDEX) {
+            ItemSearchDocument document = ItemSearchDocument.of(item);
+            afterCommit(() -> index.put(document));
+        }
+    }
+
+    public void onDeleted(long itemId) {
+        if (mode == ItemSearchMode.INDEX) {
+            afterCommit(() -> index.remove(itemId));
+        }
+    }
+
+    /**
+     * Until the scan finishes, searches are answered by the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        if (mode != ItemSearchMode.INDEX) {
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ItemSearchDocument> documents = itemRepository.streamSearchDocuments()) {
+                documents.forEach(index::load);
+            }
+        });
+        index.markReady();
+        log.info("Item search index rebuilt: {} items, {} terms", index.size(), index.termCount());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static ItemSearchEngine trigramEngine(ItemRepository itemRepository) {
+        return (text, offset, limit) ->
+                itemRepository.searchRankedByTrigram(text, "%" + escapeLike(text) + "%", offset, limit);
+    }
+
+    private static ItemSearchEngine patternEngine(ItemRepository itemRepository) {
+        return (text, offset, limit) -> itemRepository.searchRankedByPattern(text, escapeLike(text) + "%",
+                "%" + escapeLike(text) + "%", offset, limit);
+    }
+
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            log.info("Item search runs on {}", product);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect the database, item search falls back to LIKE", e);
+            return false;
+        }
+    }
+}
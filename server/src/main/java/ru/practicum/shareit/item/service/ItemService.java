@@ -3,10 +3,12 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 
 import java.util.Collection;
+import java.util.Iterator;
 
 public interface ItemService {
     Collection<ItemInfoDto> getAllByUsersId(long userId);
@@ -15,11 +17,13 @@ public interface ItemService {
 
     ItemDto create(long userId, ItemCreateDto itemCreateDto);
 
+    ItemImportResultDto importItems(long userId, Iterator<ItemCreateDto> items);
+
     ItemDto update(long userId, long itemId, ItemUpdateDto itemUpdateDto);
 
     void delete(long itemId, long userId);
 
-    Collection<ItemDto> getAllByText(String text);
+    Collection<ItemDto> getAllByText(String text, int from, int size);
 
     CommentDto addComment(long itemId, long userId, CommentDto commentDto);
 }
@@ -1,37 +1,49 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.mapper.CommentMapper;
 import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
+import ru.practicum.shareit.dashboard.repository.OwnerItemSummaryRepository;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.metrics.MetricsConfig;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxWriter;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.RequestMatcher;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ItemServiceImpl implements ItemService {
@@ -40,16 +52,32 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
-    private static final int MAX_SIZE_NAME = 30;
-    private static final int MAX_SIZE_DESCRIPTION = 150;
+    private final ItemSearcher itemSearcher;
+    private final RequestMatcher requestMatcher;
+    private final UserExistence userExistence;
+    private final ItemImporter itemImporter;
+    private final OutboxWriter outboxWriter;
+    private final OwnerItemSummaryRepository ownerItemSummaryRepository;
+    static final int MAX_SIZE_NAME = 30;
+    static final int MAX_SIZE_DESCRIPTION = 150;
 
     @Override
     @Transactional(readOnly = true)
     public Collection<ItemInfoDto> getAllByUsersId(long userId) {
         checkUserExistence(userId);
-        return itemRepository.findAllByOwnerId(userId).stream()
-                .sorted(Comparator.comparingLong(Item::getId))
-                .map(item -> getById(userId, item.getId()))
+        List<OwnerItemSummary> summaries = ownerItemSummaryRepository.findAllByOwnerIdOrderByItemIdAsc(userId);
+        if (summaries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, List<CommentDto>> commentsByItemId = summaries.stream().anyMatch(s -> s.getCommentCount() > 0)
+                ? commentRepository.findAllByItemOwnerId(userId).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper.INSTANCE::toCommentDto, Collectors.toList())))
+                : Collections.emptyMap();
+        LocalDateTime now = LocalDateTime.now();
+        return summaries.stream()
+                .map(summary -> toItemInfoDto(summary, now,
+                        commentsByItemId.getOrDefault(summary.getItemId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
@@ -61,13 +89,15 @@ public class ItemServiceImpl implements ItemService {
         Collection<CommentDto> comments = commentRepository.findAllByItemId(itemId).stream()
                 .map(CommentMapper.INSTANCE::toCommentDto).collect(Collectors.toList());
         if (item.getOwner().getId().equals(userId)) {
-            List<Booking> lastBookings = bookingRepository.findLastBookingsByItemId(itemId);
-            BookingForItemDto lastBooking = lastBookings.isEmpty() ? null :
-                    BookingMapper.INSTANCE.toBookingForItemDto(lastBookings.getFirst());
-
-            List<Booking> upcomingBookings = bookingRepository.findUpcomingBookingsByItemId(itemId);
-            BookingForItemDto nextBooking = upcomingBookings.isEmpty() ? null :
-                    BookingMapper.INSTANCE.toBookingForItemDto(upcomingBookings.getFirst());
+            LocalDateTime now = LocalDateTime.now();
+            BookingForItemDto lastBooking = bookingRepository
+                    .findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDesc(itemId, BookingStatus.APPROVED, now)
+                    .map(BookingMapper.INSTANCE::toBookingForItemDto)
+                    .orElse(null);
+            BookingForItemDto nextBooking = bookingRepository
+                    .findFirstByItemIdAndStatusAndStartGreaterThanEqualOrderByStartAsc(itemId, BookingStatus.APPROVED, now)
+                    .map(BookingMapper.INSTANCE::toBookingForItemDto)
+                    .orElse(null);
 
             return ItemMapper.INSTANCE.toItemInfoDto(item, lastBooking, nextBooking, userId, comments);
         }
@@ -78,17 +108,28 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public ItemDto create(long userId, ItemCreateDto itemCreateDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
+        checkUserExistence(userId);
         Item item = ItemMapper.INSTANCE.toItem(itemCreateDto);
-        item.setOwner(user);
+        item.setOwner(userRepository.getReferenceById(userId));
         if (itemCreateDto.getRequestId() != null) {
             ItemRequest request = itemRequestRepository.findById(itemCreateDto.getRequestId())
                     .orElseThrow(() ->
                             new NotFoundException("Запроса с id=" + itemCreateDto.getRequestId() + " не существует"));
             item.setRequest(request);
         }
-        return ItemMapper.INSTANCE.toItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemSearcher.onSaved(savedItem);
+        requestMatcher.onItemCreated(savedItem);
+        ItemDto itemDto = ItemMapper.INSTANCE.toItemDto(savedItem);
+        outboxWriter.record(OutboxEventType.ITEM_CREATED, savedItem.getId(), itemDto);
+        return itemDto;
+    }
+
+    @Override
+    @Transactional
+    public ItemImportResultDto importItems(long userId, Iterator<ItemCreateDto> items) {
+        checkUserExistence(userId);
+        return itemImporter.importItems(userId, items);
     }
 
     @Override
@@ -112,7 +153,12 @@ public class ItemServiceImpl implements ItemService {
         if (itemUpdateDto.getAvailable() != null) {
             updatedItem.setAvailable(itemUpdateDto.getAvailable());
         }
-        return ItemMapper.INSTANCE.toItemDto(itemRepository.save(updatedItem));
+        Item savedItem = itemRepository.save(updatedItem);
+        itemSearcher.onSaved(savedItem);
+        requestMatcher.onItemUpdated(savedItem);
+        ItemDto itemDto = ItemMapper.INSTANCE.toItemDto(savedItem);
+        outboxWriter.record(OutboxEventType.ITEM_UPDATED, savedItem.getId(), itemDto);
+        return itemDto;
     }
 
     @Override
@@ -120,13 +166,16 @@ public class ItemServiceImpl implements ItemService {
     public void delete(long itemId, long userId) {
         checkUserExistence(userId);
         checkItemExistence(itemId);
-        itemRepository.deleteByIdAndOwnerId(itemId, userId);
+        if (itemRepository.deleteByIdAndOwnerId(itemId, userId) > 0) {
+            itemSearcher.onDeleted(itemId);
+            outboxWriter.record(OutboxEventType.ITEM_DELETED, itemId, Map.of("id", itemId));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Collection<ItemDto> getAllByText(String text) {
-        List<Item> items = itemRepository.searchByText(text.toLowerCase());
+    public Collection<ItemDto> getAllByText(String text, int from, int size) {
+        List<Item> items = itemSearcher.search(text, from, size);
         return items.stream()
                 .map(ItemMapper.INSTANCE::toItemDto)
                 .collect(Collectors.toList());
@@ -140,11 +189,10 @@ public class ItemServiceImpl implements ItemService {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Предмета с id=" + itemId + " не существует"));
 
-        List<Booking> endedBookings = bookingRepository.findLastBookingsByItemId(itemId);
-        endedBookings.stream()
-                .map(booking -> booking.getBooker().getId().equals(userId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Вы не можете оставить отзыв на данный предмет."));
+        if (!bookingRepository.existsByItemIdAndBookerIdAndStatusAndStartLessThanEqual(
+                itemId, userId, BookingStatus.APPROVED, LocalDateTime.now())) {
+            throw new IllegalArgumentException("Вы не можете оставить отзыв на данный предмет.");
+        }
 
         Comment comment = Comment.builder()
                 .text(commentDto.getText())
@@ -152,12 +200,36 @@ public class ItemServiceImpl implements ItemService {
                 .author(author)
                 .created(LocalDateTime.now())
                 .build();
-        return CommentMapper.INSTANCE.toCommentDto(commentRepository.save(comment));
+        CommentDto savedComment = CommentMapper.INSTANCE.toCommentDto(commentRepository.save(comment));
+        outboxWriter.record(OutboxEventType.COMMENT_ADDED, itemId, savedComment);
+        return savedComment;
+    }
+
+    /**
+     * A summary whose next booking has started is not refreshed yet, so its bookings are read from the source.
+     */
+    private ItemInfoDto toItemInfoDto(OwnerItemSummary summary, LocalDateTime now, Collection<CommentDto> comments) {
+        if (!summary.isExpired(now)) {
+            return ItemMapper.INSTANCE.toItemInfoDto(summary, BookingMapper.INSTANCE.toLastBookingDto(summary),
+                    BookingMapper.INSTANCE.toNextBookingDto(summary), comments);
+        }
+        BookingForItemDto lastBooking = bookingRepository
+                .findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDesc(summary.getItemId(),
+                        BookingStatus.APPROVED, now)
+                .map(BookingMapper.INSTANCE::toBookingForItemDto)
+                .orElse(null);
+        BookingForItemDto nextBooking = bookingRepository
+                .findFirstByItemIdAndStatusAndStartGreaterThanEqualOrderByStartAsc(summary.getItemId(),
+                        BookingStatus.APPROVED, now)
+                .map(BookingMapper.INSTANCE::toBookingForItemDto)
+                .orElse(null);
+        return ItemMapper.INSTANCE.toItemInfoDto(summary, lastBooking, nextBooking, comments);
     }
 
     private void checkUserExistence(long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
+        if (!userExistence.exists(userId)) {
+            throw new NotFoundException("Пользователя с id=" + userId + " не существует");
+        }
     }
 
     private void checkItemExistence(long itemId) {
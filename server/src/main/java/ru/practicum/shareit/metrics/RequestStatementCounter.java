@@ -0,0 +1,29 @@
+package ru.practicum.shareit.metrics;
+
+/**
+ * Counts JDBC statements executed by the current thread between {@link #start()} and {@link #finish()}.
+ * Statements outside a started window are not counted.
+ */
+public final class RequestStatementCounter {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private RequestStatementCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    public static int finish() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
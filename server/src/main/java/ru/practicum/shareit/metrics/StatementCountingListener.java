@@ -0,0 +1,18 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered for every Hibernate session through {@code hibernate.session.events.auto}.
+ */
+public class StatementCountingListener implements SessionEventListener {
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestStatementCounter.increment();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestStatementCounter.increment();
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LoggingOutboxSink implements OutboxSink {
+    private static final Logger log = LoggerFactory.getLogger("shareit.outbox");
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("event={} {}={} id={} payload={}", message.type(), message.aggregateType(),
+                    message.aggregateId(), message.id(), message.payload());
+        }
+    }
+}
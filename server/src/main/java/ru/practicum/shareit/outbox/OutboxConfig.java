@@ -0,0 +1,22 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+    @Bean
+    public OutboxSink outboxSink(@Value("${shareit.outbox.sink:log}") OutboxSinkType type,
+                                 @Value("${shareit.outbox.file.path:outbox-events.ndjson}") Path path,
+                                 ObjectMapper objectMapper) {
+        return switch (type) {
+            case LOG -> new LoggingOutboxSink();
+            case FILE -> new FileOutboxSink(path, objectMapper);
+            case MEMORY -> new InMemoryOutboxSink();
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event as handed to sinks. The payload is the JSON written with the event; consumers deduplicate by id.
+ */
+public record OutboxMessage(long id, String aggregateType, long aggregateId, String type,
+                            @JsonRawValue String payload, LocalDateTime created) {
+}
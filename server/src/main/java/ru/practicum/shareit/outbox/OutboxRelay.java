@@ -0,0 +1,114 @@
+package ru.practicum.shareit.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes recorded events to the {@link OutboxSink} in batches and deletes them once the sink accepts them,
+ * so delivery is at least once. A batch is published in id order; events from transactions that commit out of
+ * id order are picked up by a later batch. Runs as a single relay per server.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private static final String SELECT_BATCH = "SELECT event_id, aggregate_type, aggregate_id, event_type, payload, "
+            + "created_date FROM outbox_events ORDER BY event_id LIMIT ?";
+    private static final String DELETE = "DELETE FROM outbox_events WHERE event_id = ?";
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (resultSet, row) -> new OutboxMessage(
+            resultSet.getLong("event_id"),
+            resultSet.getString("aggregate_type"),
+            resultSet.getLong("aggregate_id"),
+            resultSet.getString("event_type"),
+            resultSet.getString("payload"),
+            resultSet.getTimestamp("created_date").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxSink sink;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory());
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxSink sink, PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${shareit.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${shareit.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${shareit.outbox.relay.interval-ms:1000}") long intervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.publishedCounter = Counter.builder("shareit.outbox.published").register(meterRegistry);
+        this.failureCounter = Counter.builder("shareit.outbox.failures").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::relayQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Publishes batches until the outbox is empty and returns the number of published events.
+     */
+    public synchronized int relayPending() {
+        int total = 0;
+        int published;
+        do {
+            published = Objects.requireNonNull(transaction.execute(status -> relayBatch()));
+            total += published;
+        } while (published == batchSize);
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = jdbcTemplate.query(SELECT_BATCH, MESSAGE_MAPPER, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.publish(batch);
+        jdbcTemplate.batchUpdate(DELETE, batch, batch.size(),
+                (statement, message) -> statement.setLong(1, message.id()));
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private void relayQuietly() {
+        try {
+            relayPending();
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Outbox relay failed, retrying in {} ms", intervalMillis, e);
+        }
+    }
+}
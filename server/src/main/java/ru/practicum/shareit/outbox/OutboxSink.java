@@ -0,0 +1,10 @@
+package ru.practicum.shareit.outbox;
+
+import java.util.List;
+
+/**
+ * Receives relayed events in id order. A sink that throws gets the same batch again on the next attempt.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages);
+}
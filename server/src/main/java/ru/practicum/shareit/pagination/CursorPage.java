@@ -0,0 +1,28 @@
+package ru.practicum.shareit.pagination;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_SIZE = 100;
+
+    public static Limit limit(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Размер страницы должен быть положительным");
+        }
+        return Limit.of(Math.min(size, MAX_SIZE));
+    }
+
+    public static <E, T> CursorPage<T> of(Window<E> window, Function<E, T> mapper,
+                                          Function<E, KeysetCursor> cursorExtractor) {
+        List<T> content = window.stream().map(mapper).toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? cursorExtractor.apply(window.getContent().getLast()).encode()
+                : null;
+        return new CursorPage<>(content, nextCursor);
+    }
+}
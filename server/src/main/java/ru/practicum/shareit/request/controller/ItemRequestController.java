@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,8 +11,10 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.Collection;
@@ -32,15 +35,22 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public Collection<ItemRequestInfoDto> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
-        return itemRequestService.getAllByUserId(userId);
+    public Collection<ItemRequestInfoDto> getAllByUserId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                         @RequestParam(defaultValue = "0") int from,
+                                                         @RequestParam(defaultValue = "50") int size) {
+        return itemRequestService.getAllByUserId(userId, from, size);
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestDto> getAllOtherUsers(@RequestHeader(USER_ID_HEADER) long userId,
-                                                       @RequestParam(defaultValue = "0") int from,
-                                                       @RequestParam(defaultValue = "10") int size) {
-        return itemRequestService.getAllOtherUsers(userId, from, size);
+    public ResponseEntity<Collection<ItemRequestDto>> getAllOtherUsers(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "10") int size) {
+        CursorPage<ItemRequestDto> page = itemRequestService.getAllOtherUsers(userId, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.content());
     }
 
     @GetMapping("/{requestId}")
@@ -48,4 +58,10 @@ public class ItemRequestController {
                                       @PathVariable long requestId) {
         return itemRequestService.getById(userId, requestId);
     }
+
+    @GetMapping("/{requestId}/matches")
+    public Collection<ItemRequestMatchDto> getMatches(@RequestHeader(USER_ID_HEADER) long userId,
+                                                      @PathVariable long requestId) {
+        return itemRequestService.getMatches(userId, requestId);
+    }
 }
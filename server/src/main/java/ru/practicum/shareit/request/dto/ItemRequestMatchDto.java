@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ItemRequestMatchDto {
+    private Long itemId;
+    private String name;
+    private String description;
+    private Long ownerId;
+    private Double score;
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.request.model;
+
+public record RequestMatchDocument(Long id, String description, Long requestorId) {
+    public static RequestMatchDocument of(ItemRequest request) {
+        return new RequestMatchDocument(request.getId(), request.getDescription(), request.getRequestor().getId());
+    }
+}
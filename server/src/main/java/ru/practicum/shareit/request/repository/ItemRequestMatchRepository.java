@@ -0,0 +1,25 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.model.ItemRequestMatch;
+
+import java.util.List;
+
+@Repository
+public interface ItemRequestMatchRepository extends JpaRepository<ItemRequestMatch, Long> {
+    @Query("SELECT new ru.practicum.shareit.request.dto.ItemRequestMatchDto(i.id, i.name, i.description, " +
+            "i.owner.id, m.score) " +
+            "FROM ItemRequestMatch m JOIN m.item i " +
+            "WHERE m.request.id = :requestId AND i.available = true " +
+            "ORDER BY m.score DESC, i.id")
+    List<ItemRequestMatchDto> findMatchesByRequestId(@Param("requestId") long requestId);
+
+    @Modifying
+    @Query("DELETE FROM ItemRequestMatch m WHERE m.item.id = :itemId")
+    int deleteAllByItemId(@Param("itemId") long itemId);
+}
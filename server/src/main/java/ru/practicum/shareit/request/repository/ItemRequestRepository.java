@@ -1,16 +1,34 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestMatchDocument;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequestorId(Long userId);
+    @Query("SELECT r FROM ItemRequest r WHERE r.requestor.id = :requestorId " +
+            "ORDER BY r.created DESC, r.id DESC " +
+            "LIMIT :limit OFFSET :offset")
+    List<ItemRequest> findPageByRequestorId(@Param("requestorId") long requestorId, @Param("offset") int offset,
+                                            @Param("limit") int limit);
 
-    Page<ItemRequest> findAllByOrderByCreatedDesc(Pageable pageable);
+    Window<ItemRequest> findAllByRequestorIdNotOrderByCreatedDescIdDesc(long requestorId, ScrollPosition position,
+                                                                        Limit limit);
+
+    @Query("SELECT new ru.practicum.shareit.request.model.RequestMatchDocument(r.id, r.description, r.requestor.id) " +
+            "FROM ItemRequest r WHERE NOT EXISTS (SELECT i.id FROM Item i WHERE i.request = r)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<RequestMatchDocument> streamOpenRequests();
 }
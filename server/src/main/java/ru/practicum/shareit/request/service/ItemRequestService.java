@@ -1,16 +1,20 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
 
 import java.util.Collection;
 
 public interface ItemRequestService {
     ItemRequestDto create(long userId, ItemRequestDto itemRequestDto);
 
-    Collection<ItemRequestInfoDto> getAllByUserId(long userId);
+    Collection<ItemRequestInfoDto> getAllByUserId(long userId, int from, int size);
 
-    Collection<ItemRequestDto> getAllOtherUsers(long userId, int from, int size);
+    CursorPage<ItemRequestDto> getAllOtherUsers(long userId, String cursor, int size);
 
     ItemRequestInfoDto getById(long userId, long requestId);
+
+    Collection<ItemRequestMatchDto> getMatches(long userId, long requestId);
 }
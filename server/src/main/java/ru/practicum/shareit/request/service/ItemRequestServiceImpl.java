@@ -1,73 +1,100 @@
 
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.metrics.MetricsConfig;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.KeysetCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
-import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final UserExistence userExistence;
     private final ItemRepository itemRepository;
+    private final ItemRequestMatchRepository itemRequestMatchRepository;
+    private final RequestMatcher requestMatcher;
 
     @Override
     @Transactional
     public ItemRequestDto create(long userId, ItemRequestDto itemRequestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
+        checkUserExistence(userId);
         ItemRequest itemRequest = ItemRequestMapper.INSTANCE.toItem(itemRequestDto);
-        itemRequest.setRequestor(user);
-        itemRequest.setCreated(LocalDateTime.now());
-        return ItemRequestMapper.INSTANCE.toItemRequestDto(itemRequestRepository.save(itemRequest));
+        itemRequest.setRequestor(userRepository.getReferenceById(userId));
+        // Matches the column precision so cached entities and feed cursors agree with stored rows.
+        itemRequest.setCreated(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        ItemRequest savedRequest = itemRequestRepository.save(itemRequest);
+        requestMatcher.onRequestCreated(savedRequest);
+        return ItemRequestMapper.INSTANCE.toItemRequestDto(savedRequest);
     }
 
+    /**
+     * Items answering the page's requests are loaded with one query for all of them.
+     */
     @Override
-    public Collection<ItemRequestInfoDto> getAllByUserId(long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
-        List<ItemRequest> requests = itemRequestRepository.findAllByRequestorId(userId);
-
-        return ItemRequestMapper.INSTANCE.toWithItemsDto(requests).stream()
-                .sorted(Comparator.comparing(ItemRequestInfoDto::getCreated).reversed())
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestInfoDto> getAllByUserId(long userId, int from, int size) {
+        checkUserExistence(userId);
+        if (from < 0 || size < 1) {
+            throw new IllegalArgumentException("Некорректные параметры пагинации: from=" + from + ", size=" + size);
+        }
+        List<ItemRequest> requests = itemRequestRepository.findPageByRequestorId(userId, from, size);
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, List<ItemForRequestDto>> itemsByRequestId = itemRepository.findAllByRequestIdIn(requests.stream()
+                        .map(ItemRequest::getId)
+                        .toList()).stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId(),
+                        Collectors.mapping(ItemMapper.INSTANCE::toItemForRequestDto, Collectors.toList())));
+        return requests.stream()
+                .map(request -> ItemRequestMapper.INSTANCE.toItemRequestInfoDto(request,
+                        itemsByRequestId.getOrDefault(request.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public Collection<ItemRequestDto> getAllOtherUsers(long userId, int from, int size) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
-        PageRequest page = PageRequest.of(from > 0 ? from / size : 0, size);
-        return itemRequestRepository.findAllByOrderByCreatedDesc(page).stream()
-                .map(ItemRequestMapper.INSTANCE::toItemRequestDto).collect(Collectors.toList());
+    public CursorPage<ItemRequestDto> getAllOtherUsers(long userId, String cursor, int size) {
+        checkUserExistence(userId);
+        Window<ItemRequest> requests = itemRequestRepository.findAllByRequestorIdNotOrderByCreatedDescIdDesc(userId,
+                KeysetCursor.toScrollPosition(cursor, "created"), CursorPage.limit(size));
+        return CursorPage.of(requests, ItemRequestMapper.INSTANCE::toItemRequestDto,
+                request -> new KeysetCursor(request.getCreated(), request.getId()));
     }
 
     @Override
     public ItemRequestInfoDto getById(long userId, long requestId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователя с id=" + userId + " не существует"));
+        checkUserExistence(userId);
         ItemRequest request = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("Запроса с id=" + userId + " не существует"));
         Collection<ItemForRequestDto> items = itemRepository.findAllByRequestId(requestId).stream()
@@ -76,4 +103,23 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .collect(Collectors.toList());
         return ItemRequestMapper.INSTANCE.toItemRequestInfoDto(request, items);
     }
+
+    /**
+     * Candidate items found by {@link RequestMatcher}; only the requestor sees them.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestMatchDto> getMatches(long userId, long requestId) {
+        checkUserExistence(userId);
+        ItemRequest request = itemRequestRepository.findById(requestId)
+                .filter(found -> found.getRequestor().getId().equals(userId))
+                .orElseThrow(() -> new NotFoundException("Запроса с id=" + requestId + " не существует"));
+        return itemRequestMatchRepository.findMatchesByRequestId(request.getId());
+    }
+
+    private void checkUserExistence(long userId) {
+        if (!userExistence.exists(userId)) {
+            throw new NotFoundException("Пользователя с id=" + userId + " не существует");
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.request.service;
+
+import ru.practicum.shareit.request.model.RequestMatchDocument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram index over descriptions of open item requests. Words are padded with spaces before being cut into
+ * trigrams, as pg_trgm does, and words shorter than three letters are skipped.
+ * An item is scored against a request by the share of the request's trigrams found in the item's text; only
+ * requests sharing at least one trigram with the item are visited.
+ * Not thread-safe: {@link RequestMatcher} only touches it from its own thread.
+ */
+public class RequestMatchIndex {
+    private static final int GRAM = 3;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private volatile int size;
+
+    public void put(RequestMatchDocument document) {
+        remove(document.id());
+        Set<String> grams = grams(document.description());
+        if (grams.isEmpty()) {
+            return;
+        }
+        entries.put(document.id(), new Entry(document.requestorId(), grams));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id());
+        }
+        size = entries.size();
+    }
+
+    public void remove(long requestId) {
+        Entry entry = entries.remove(requestId);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : entry.grams()) {
+            Set<Long> posting = postings.get(gram);
+            posting.remove(requestId);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        size = entries.size();
+    }
+
+    /**
+     * Requests of other users whose score reaches {@code minScore}, best first.
+     */
+    public List<Match> match(String text, long ownerId, double minScore, int limit) {
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : grams(text)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                for (Long requestId : posting) {
+                    shared.merge(requestId, 1, Integer::sum);
+                }
+            }
+        }
+        List<Match> matches = new ArrayList<>();
+        shared.forEach((requestId, count) -> {
+            Entry entry = entries.get(requestId);
+            double score = (double) count / entry.grams().size();
+            if (entry.requestorId() != ownerId && score >= minScore) {
+                matches.add(new Match(requestId, score));
+            }
+        });
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::requestId))
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() < GRAM) {
+                continue;
+            }
+            String padded = " " + word + " ";
+            for (int i = 0; i + GRAM <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    public record Match(long requestId, double score) {
+    }
+
+    private record Entry(long requestorId, Set<String> grams) {
+    }
+}
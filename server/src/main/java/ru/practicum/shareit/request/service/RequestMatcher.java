@@ -0,0 +1,180 @@
+package ru.practicum.shareit.request.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestMatch;
+import ru.practicum.shareit.request.model.RequestMatchDocument;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Matches saved items against open requests in the background. A request is open until an item answers it.
+ * All index changes and match writes run on one thread in commit order, so the index needs no locking and a
+ * rebuild queued at startup is finished before the first item is matched.
+ */
+@Slf4j
+@Component
+public class RequestMatcher {
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRequestMatchRepository matchRepository;
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final double minScore;
+    private final int maxMatchesPerItem;
+    private final RequestMatchIndex index = new RequestMatchIndex();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("request-matcher").daemon().factory());
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer matchTimer;
+
+    public RequestMatcher(ItemRequestRepository itemRequestRepository,
+                          ItemRequestMatchRepository matchRepository,
+                          ItemRepository itemRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${shareit.request.matching.enabled:true}") boolean enabled,
+                          @Value("${shareit.request.matching.min-score:0.4}") double minScore,
+                          @Value("${shareit.request.matching.max-matches-per-item:20}") int maxMatchesPerItem) {
+        this.itemRequestRepository = itemRequestRepository;
+        this.matchRepository = matchRepository;
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.minScore = minScore;
+        this.maxMatchesPerItem = maxMatchesPerItem;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.matchTimer = Timer.builder("shareit.request.matching").register(meterRegistry);
+        if (enabled) {
+            Gauge.builder("shareit.request.matching.open-requests", index, RequestMatchIndex::size)
+                    .register(meterRegistry);
+        }
+    }
+
+    public void onRequestCreated(ItemRequest request) {
+        if (enabled) {
+            RequestMatchDocument document = RequestMatchDocument.of(request);
+            afterCommit(() -> executor.execute(() -> index.put(document)));
+        }
+    }
+
+    public void onItemCreated(Item item) {
+        onItemSaved(item, false);
+    }
+
+    public void onItemUpdated(Item item) {
+        onItemSaved(item, true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        if (enabled) {
+            executor.execute(this::loadOpenRequests);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Request matcher stopped with {} pending tasks", executor.shutdownNow().size());
+        }
+    }
+
+    private void loadOpenRequests() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<RequestMatchDocument> documents = itemRequestRepository.streamOpenRequests()) {
+                documents.forEach(index::put);
+            }
+        });
+        log.info("Request match index rebuilt: {} open requests", index.size());
+    }
+
+    /**
+     * Replaces the item's matches. Unavailable items keep none, and an item answering a request closes it.
+     * A new item has no matches to replace, so it only touches the database when it matches something.
+     */
+    private void match(ItemChange change) {
+        try {
+            if (change.requestId() != null) {
+                index.remove(change.requestId());
+            }
+            List<RequestMatchIndex.Match> matches = change.available()
+                    ? matchTimer.record(() ->
+                            index.match(change.text(), change.ownerId(), minScore, maxMatchesPerItem))
+                    : List.of();
+            if (!change.updated() && matches.isEmpty()) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            transaction.executeWithoutResult(status -> {
+                if (change.updated()) {
+                    matchRepository.deleteAllByItemId(change.itemId());
+                }
+                matchRepository.saveAll(matches.stream()
+                        .map(match -> ItemRequestMatch.builder()
+                                .request(itemRequestRepository.getReferenceById(match.requestId()))
+                                .item(itemRepository.getReferenceById(change.itemId()))
+                                .score(match.score())
+                                .matched(now)
+                                .build())
+                        .toList());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not match item {} against open requests", change.itemId(), e);
+        }
+    }
+
+    private void onItemSaved(Item item, boolean updated) {
+        if (enabled) {
+            ItemChange change = ItemChange.of(item, updated);
+            afterCommit(() -> executor.execute(() -> match(change)));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record ItemChange(long itemId, long ownerId, Long requestId, String text, boolean available,
+                              boolean updated) {
+        private static ItemChange of(Item item, boolean updated) {
+            return new ItemChange(item.getId(), item.getOwner().getId(),
+                    item.getRequest() == null ? null : item.getRequest().getId(),
+                    item.getName() + " " + Objects.toString(item.getDescription(), ""),
+                    Boolean.TRUE.equals(item.getAvailable()), updated);
+        }
+    }
+}
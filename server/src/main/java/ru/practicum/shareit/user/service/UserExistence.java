@@ -0,0 +1,30 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.cache.CacheConfig;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@Component
+@RequiredArgsConstructor
+public class UserExistence {
+    private final UserRepository userRepository;
+
+    /**
+     * Only positive answers are cached, so a user created after a failed lookup is seen immediately.
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_EXISTS, unless = "!#result")
+    public boolean exists(long userId) {
+        return userRepository.existsById(userId);
+    }
+
+    /**
+     * Drops the cached answer and asks the database again, for callers that have seen the user disappear.
+     */
+    @CacheEvict(cacheNames = CacheConfig.USER_EXISTS, key = "#userId")
+    public boolean recheck(long userId) {
+        return userRepository.existsById(userId);
+    }
+}
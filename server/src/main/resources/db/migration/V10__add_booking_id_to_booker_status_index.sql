@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS bookings_booker_status_start_idx;
+
+CREATE INDEX IF NOT EXISTS bookings_booker_status_start_idx
+    ON bookings (booker_id, status, start_date DESC, booking_id DESC);
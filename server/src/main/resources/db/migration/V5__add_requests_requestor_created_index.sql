@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS requests_requestor_created_idx ON requests (requestor_id, created_date DESC, request_id DESC);
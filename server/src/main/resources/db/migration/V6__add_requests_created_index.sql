@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS requests_created_idx ON requests (created_date DESC, request_id DESC);
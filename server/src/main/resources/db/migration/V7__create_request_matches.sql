@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS request_matches
+(
+    match_id     BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
+    request_id   BIGINT                                  NOT NULL,
+    item_id      BIGINT                                  NOT NULL,
+    score        DOUBLE PRECISION                        NOT NULL,
+    matched_date TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    FOREIGN KEY (request_id) REFERENCES requests (request_id) ON DELETE CASCADE,
+    FOREIGN KEY (item_id) REFERENCES items (item_id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS request_matches_request_item_idx ON request_matches (request_id, item_id);
+CREATE INDEX IF NOT EXISTS request_matches_item_idx ON request_matches (item_id);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    event_id       BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(20)                             NOT NULL,
+    aggregate_id   BIGINT                                  NOT NULL,
+    event_type     VARCHAR(40)                             NOT NULL,
+    payload        VARCHAR                                 NOT NULL,
+    created_date   TIMESTAMP WITHOUT TIME ZONE             NOT NULL
+);
@@ -0,0 +1,68 @@
+CREATE TABLE IF NOT EXISTS owner_item_summaries
+(
+    item_id         BIGINT                      NOT NULL PRIMARY KEY,
+    owner_id        BIGINT                      NOT NULL,
+    name            VARCHAR(30)                 NOT NULL,
+    description     VARCHAR(150),
+    is_available    BOOLEAN                     NOT NULL,
+    last_booking_id BIGINT,
+    last_booker_id  BIGINT,
+    last_start_date TIMESTAMP WITHOUT TIME ZONE,
+    last_end_date   TIMESTAMP WITHOUT TIME ZONE,
+    next_booking_id BIGINT,
+    next_booker_id  BIGINT,
+    next_start_date TIMESTAMP WITHOUT TIME ZONE,
+    next_end_date   TIMESTAMP WITHOUT TIME ZONE,
+    comment_count   BIGINT                      NOT NULL,
+    FOREIGN KEY (item_id) REFERENCES items (item_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS owner_item_summaries_owner_idx ON owner_item_summaries (owner_id, item_id);
+CREATE INDEX IF NOT EXISTS owner_item_summaries_next_start_idx ON owner_item_summaries (next_start_date);
+
+CREATE TABLE IF NOT EXISTS owner_bookings
+(
+    booking_id BIGINT                      NOT NULL PRIMARY KEY,
+    owner_id   BIGINT                      NOT NULL,
+    item_id    BIGINT                      NOT NULL,
+    item_name  VARCHAR(30)                 NOT NULL,
+    booker_id  BIGINT                      NOT NULL,
+    start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_date   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    status     VARCHAR(10)                 NOT NULL,
+    FOREIGN KEY (booking_id) REFERENCES bookings (booking_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS owner_bookings_owner_start_idx ON owner_bookings (owner_id, start_date DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS owner_bookings_owner_status_idx
+    ON owner_bookings (owner_id, status, start_date DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS owner_bookings_item_idx ON owner_bookings (item_id);
+
+INSERT INTO owner_bookings (owner_id, item_id, item_name, booker_id, start_date, end_date, status, booking_id)
+SELECT i.owner_id, b.item_id, i.name, b.booker_id, b.start_date, b.end_date, b.status, b.booking_id
+FROM bookings b
+         JOIN items i ON i.item_id = b.item_id;
+
+INSERT INTO owner_item_summaries (owner_id, name, description, is_available,
+                                  last_booking_id, last_booker_id, last_start_date, last_end_date,
+                                  next_booking_id, next_booker_id, next_start_date, next_end_date,
+                                  comment_count, item_id)
+SELECT i.owner_id, i.name, i.description, i.is_available,
+       lb.booking_id, lb.booker_id, lb.start_date, lb.end_date,
+       nb.booking_id, nb.booker_id, nb.start_date, nb.end_date,
+       (SELECT COUNT(*) FROM comments c WHERE c.item_id = i.item_id), i.item_id
+FROM items i
+         LEFT JOIN bookings lb ON lb.booking_id = (SELECT b.booking_id
+                                                   FROM bookings b
+                                                   WHERE b.item_id = i.item_id
+                                                     AND b.status = 'APPROVED'
+                                                     AND b.start_date <= LOCALTIMESTAMP
+                                                   ORDER BY b.start_date DESC, b.booking_id
+                                                   LIMIT 1)
+         LEFT JOIN bookings nb ON nb.booking_id = (SELECT b.booking_id
+                                                   FROM bookings b
+                                                   WHERE b.item_id = i.item_id
+                                                     AND b.status = 'APPROVED'
+                                                     AND b.start_date >= LOCALTIMESTAMP
+                                                   ORDER BY b.start_date, b.booking_id
+                                                   LIMIT 1);
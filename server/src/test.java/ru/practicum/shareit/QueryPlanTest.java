@@ -0,0 +1,252 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.cache.EntityCacheConfig;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.dashboard.repository.OwnerBookingRepository;
+import ru.practicum.shareit.dashboard.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestMatchRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(EntityCacheConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.QueryPlanTest$SqlRecorder")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class QueryPlanTest {
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* PUBLIC\\.(\\w+)(\\.tableScan|: )");
+    private static final List<String> INDEXED_TABLES = List.of("BOOKINGS", "ITEMS", "COMMENTS", "REQUESTS",
+            "REQUEST_MATCHES", "OWNER_BOOKINGS", "OWNER_ITEM_SUMMARIES");
+
+    final BookingRepository bookingRepository;
+    final CommentRepository commentRepository;
+    final ItemRepository itemRepository;
+    final ItemRequestRepository itemRequestRepository;
+    final ItemRequestMatchRepository itemRequestMatchRepository;
+    final UserRepository userRepository;
+    final OwnerBookingRepository ownerBookingRepository;
+    final OwnerItemSummaryRepository ownerItemSummaryRepository;
+    final JdbcTemplate jdbcTemplate;
+    long ownerId;
+    long bookerId;
+    long itemId;
+    long requestId;
+    Map<String, String> leadingColumnByIndex;
+    Set<String> portableLeadingColumns;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(userRepository.save(User.builder().name("User " + i).email("user" + i + "@example.com").build()));
+        }
+        ItemRequest request = itemRequestRepository.save(ItemRequest.builder()
+                .description("Request")
+                .requestor(users.getFirst())
+                .created(now)
+                .build());
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            items.add(itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .available(true)
+                    .owner(users.get(i % users.size()))
+                    .request(i % 10 == 0 ? request : null)
+                    .build()));
+        }
+        BookingStatus[] statuses = BookingStatus.values();
+        for (int i = 0; i < 400; i++) {
+            Item item = items.get(i % items.size());
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .start(now.plusHours(i - 200))
+                    .end(now.plusHours(i - 199))
+                    .item(item)
+                    .booker(users.get((i + 1) % users.size()))
+                    .status(statuses[i % statuses.length])
+                    .build());
+            if (i % 4 == 0) {
+                commentRepository.save(Comment.builder()
+                        .text("Comment " + i)
+                        .item(item)
+                        .author(booking.getBooker())
+                        .created(now)
+                        .build());
+            }
+        }
+        bookingRepository.flush();
+        ownerId = users.get(1).getId();
+        bookerId = users.get(2).getId();
+        itemId = items.get(1).getId();
+        requestId = request.getId();
+        loadIndexes();
+    }
+
+    @Test
+    void bookingListQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        ScrollPosition start = ScrollPosition.keyset();
+        ScrollPosition next = ScrollPosition.forward(Map.of("start", now, "id", 1L));
+        Limit limit = Limit.of(10);
+        assertIndexed(() -> bookingRepository
+                .findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+                        bookerId, now, now, start, limit));
+        assertIndexed(() -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDescIdDesc(
+                bookerId, now, start, limit));
+        assertIndexed(() -> bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDescIdDesc(
+                bookerId, now, start, limit));
+        assertIndexed(() -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDescIdDesc(
+                bookerId, BookingStatus.WAITING, start, limit));
+        assertIndexed(() -> bookingRepository.findAllByBookerIdOrderByStartDescIdDesc(bookerId, next, limit));
+    }
+
+    @Test
+    void itemBookingQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        assertIndexed(() -> bookingRepository.findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDesc(
+                itemId, BookingStatus.APPROVED, now));
+        assertIndexed(() -> bookingRepository.findFirstByItemIdAndStatusAndStartGreaterThanEqualOrderByStartAsc(
+                itemId, BookingStatus.APPROVED, now));
+        assertIndexed(() -> bookingRepository.existsByItemIdAndBookerIdAndStatusAndStartLessThanEqual(
+                itemId, bookerId, BookingStatus.APPROVED, now));
+        assertIndexed(() -> bookingRepository.findIntervalsByItemId(itemId,
+                List.of(BookingStatus.APPROVED, BookingStatus.WAITING), now));
+        assertIndexed(() -> bookingRepository.findConflictingBookings(itemId, now, now.plusDays(1)));
+    }
+
+    @Test
+    void itemCommentAndRequestQueriesUseIndexes() {
+        assertIndexed(() -> itemRepository.findAllByRequestId(requestId));
+        assertIndexed(() -> itemRepository.findByIdForUpdate(itemId));
+        assertIndexed(() -> commentRepository.findAllByItemId(itemId));
+        assertIndexed(() -> commentRepository.findAllByItemOwnerId(ownerId));
+        assertIndexed(() -> itemRepository.findAllByRequestIdIn(List.of(requestId)));
+        assertIndexed(() -> itemRequestRepository.findPageByRequestorId(bookerId, 0, 10));
+        assertIndexed(() -> itemRequestRepository.findAllByRequestorIdNotOrderByCreatedDescIdDesc(bookerId,
+                ScrollPosition.forward(Map.of("created", LocalDateTime.now(), "id", requestId)), Limit.of(10)));
+        assertIndexed(() -> itemRequestMatchRepository.findMatchesByRequestId(requestId));
+        assertIndexed(() -> itemRequestMatchRepository.deleteAllByItemId(itemId));
+    }
+
+    @Test
+    void ownerDashboardQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        ScrollPosition start = ScrollPosition.keyset();
+        ScrollPosition next = ScrollPosition.forward(Map.of("start", now, "id", 1L));
+        Limit limit = Limit.of(10);
+        assertIndexed(() -> ownerBookingRepository
+                .findAllByOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(
+                        ownerId, now, now, start, limit));
+        assertIndexed(() -> ownerBookingRepository.findAllByOwnerIdAndEndBeforeOrderByStartDescIdDesc(
+                ownerId, now, start, limit));
+        assertIndexed(() -> ownerBookingRepository.findAllByOwnerIdAndStartAfterOrderByStartDescIdDesc(
+                ownerId, now, start, limit));
+        assertIndexed(() -> ownerBookingRepository.findAllByOwnerIdAndStatusOrderByStartDescIdDesc(
+                ownerId, BookingStatus.WAITING, start, limit));
+        assertIndexed(() -> ownerBookingRepository.findAllByOwnerIdOrderByStartDescIdDesc(ownerId, next, limit));
+        assertIndexed(() -> ownerItemSummaryRepository.findAllByOwnerIdOrderByItemIdAsc(ownerId));
+    }
+
+    private void assertIndexed(Runnable query) {
+        SqlRecorder.STATEMENTS.clear();
+        query.run();
+        List<String> statements = List.copyOf(SqlRecorder.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            Matcher matcher = ACCESS_PATH.matcher(plan);
+            while (matcher.find()) {
+                if (matcher.group(2).endsWith("tableScan")) {
+                    assertThat(matcher.group(1)).as("Full scan in plan:%n%s", plan).isNotIn(INDEXED_TABLES);
+                } else {
+                    assertThat(leadingColumnByIndex.get(matcher.group(1)))
+                            .as("Index %s has no counterpart in the migrations:%n%s", matcher.group(1), plan)
+                            .isIn(portableLeadingColumns);
+                }
+            }
+        }
+    }
+
+    /**
+     * H2 backs every foreign key with an index of its own, Postgres does not. An index is only accepted when a
+     * primary key or an index declared in the migrations starts with the same column.
+     */
+    private void loadIndexes() {
+        leadingColumnByIndex = new HashMap<>();
+        portableLeadingColumns = new HashSet<>();
+        jdbcTemplate.query("SELECT i.INDEX_NAME, i.TABLE_NAME, i.INDEX_TYPE_NAME, c.COLUMN_NAME "
+                + "FROM INFORMATION_SCHEMA.INDEXES i "
+                + "JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c "
+                + "ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME "
+                + "WHERE i.INDEX_SCHEMA = 'PUBLIC' AND c.ORDINAL_POSITION = 1", resultSet -> {
+            String indexName = resultSet.getString(1);
+            String leadingColumn = resultSet.getString(2) + "." + resultSet.getString(4);
+            leadingColumnByIndex.put(indexName, leadingColumn);
+            if ("PRIMARY KEY".equals(resultSet.getString(3)) || indexName.endsWith("_IDX")) {
+                portableLeadingColumns.add(leadingColumn);
+            }
+        });
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1));
+                    }
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests and async tasks run on platform threads by default and on virtual threads once
+ * {@code spring.threads.virtual.enabled} is set. How the two compare in throughput is measured with the load test
+ * module, not here.
+ */
+class VirtualThreadConfigTest {
+    @Test
+    void virtualThreads_ShouldServeRequestsAndAsyncTasksOnlyWhenEnabled() throws Exception {
+        assertThat(run(false)).isEqualTo(new Run(false, false));
+        assertThat(run(true)).isEqualTo(new Run(true, true));
+    }
+
+    private Run run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class,
+                ThreadEndpointConfig.class)
+                .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads);
+             HttpClient client = HttpClient.newHttpClient()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/test/thread")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            boolean asyncOnVirtualThread = context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class)
+                    .submit(() -> Thread.currentThread().isVirtual())
+                    .get();
+            return new Run(Boolean.parseBoolean(response.body()), asyncOnVirtualThread);
+        }
+    }
+
+    record Run(boolean requestOnVirtualThread, boolean asyncOnVirtualThread) {
+    }
+
+    @TestConfiguration
+    static class ThreadEndpointConfig {
+        @Bean
+        ThreadEndpoint threadEndpoint() {
+            return new ThreadEndpoint();
+        }
+    }
+
+    @RestController
+    static class ThreadEndpoint {
+        @GetMapping("/test/thread")
+        String thread() {
+            return String.valueOf(Thread.currentThread().isVirtual());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.controller.ItemController;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoggingAspectTest {
+    Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.LOGGER_PREFIX + "ItemController.getById");
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        appender.start();
+        logger.addAppender(appender);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(ItemController.class.getMethod("getById", long.class, long.class));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L, 2L});
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void log_ShouldWriteSampledSuccessWithBoundedResult() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(IntStream.range(0, 100).boxed().toList());
+
+        new LoggingAspect(1.0, 512, 3).log(joinPoint);
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage).asString()
+                .startsWith("outcome=ok durationMs=")
+                .endsWith("args=[1, 2] result=[0, 1, 2, ... 100 total]");
+    }
+
+    @Test
+    void log_ShouldSkipUnsampledSuccessButKeepFailures() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(0.0, 512, 3);
+        when(joinPoint.proceed()).thenReturn("ok");
+        aspect.log(joinPoint);
+        assertThat(appender.list).isEmpty();
+
+        when(joinPoint.proceed()).thenThrow(new NotFoundException("Вещи с id=2 не существует"));
+        assertThatThrownBy(() -> aspect.log(joinPoint)).isInstanceOf(NotFoundException.class);
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN))
+                .extracting(ILoggingEvent::getFormattedMessage).asString()
+                .startsWith("outcome=error")
+                .contains("Вещи с id=2 не существует");
+    }
+
+    @Test
+    void log_ShouldKeepFailuresWhenEndpointLoggerIsRaisedToWarn() throws Throwable {
+        logger.setLevel(Level.WARN);
+        when(joinPoint.proceed()).thenThrow(new NotFoundException("Вещи с id=2 не существует"));
+
+        assertThatThrownBy(() -> new LoggingAspect(1.0, 512, 3).log(joinPoint))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getLevel).isEqualTo(Level.WARN);
+    }
+
+    @Test
+    void log_ShouldNotRenderAnythingWhenEndpointLoggerIsOff() throws Throwable {
+        logger.setLevel(Level.ERROR);
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        new LoggingAspect(1.0, 512, 3).log(joinPoint);
+
+        assertThat(appender.list).isEmpty();
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void render_ShouldTruncateLongValuesAndSummariseBytes() {
+        LogValueRenderer renderer = new LogValueRenderer(10, 3);
+
+        assertThat(renderer.render("a".repeat(50))).isEqualTo("aaaaaaaaaa...");
+        assertThat(renderer.render(ResponseEntity.ok(new byte[1024]))).isEqualTo("ResponseEn...");
+        assertThat(new LogValueRenderer(100, 3).render(ResponseEntity.ok(new byte[1024])))
+                .isEqualTo("ResponseEntity{status=200, body=byte[1024]}");
+        assertThat(new LogValueRenderer(100, 3).render(List.of("a", "b")))
+                .isEqualTo("[a, b]");
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
+import ru.practicum.shareit.dashboard.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.owner-dashboard.refresh.enabled=false")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingApprovalConcurrencyTest {
+    final BookingService bookingService;
+    final ItemService itemService;
+    final OwnerItemSummaryRepository ownerItemSummaryRepository;
+    final BookingRepository bookingRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    final PlatformTransactionManager transactionManager;
+    User owner;
+    User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Approving Owner").email("approving-owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Approved Booker").email("approved-booker@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getBooker().getId().equals(booker.getId()))
+                .toList());
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .toList());
+        userRepository.deleteAll(List.of(owner, booker));
+    }
+
+    @Test
+    void updateStatus_ShouldSeeConcurrentApprovalOfTheSameItem() throws Exception {
+        long itemId = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Raced Item")
+                .description("Approved concurrently")
+                .available(true)
+                .build()).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        long earlier = book(itemId, start);
+        long later = book(itemId, start.plusDays(1));
+        CountDownLatch earlierFlushed = new CountDownLatch(1);
+        CountDownLatch laterStarted = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    bookingService.updateStatus(owner.getId(), earlier, true);
+                    bookingRepository.flush();
+                    earlierFlushed.countDown();
+                    try {
+                        laterStarted.await();
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            try {
+                earlierFlushed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            laterStarted.countDown();
+            bookingService.updateStatus(owner.getId(), later, true);
+        });
+        first.get(30, TimeUnit.SECONDS);
+        second.get(30, TimeUnit.SECONDS);
+
+        assertThat(ownerItemSummaryRepository.findById(itemId)).get()
+                .extracting(OwnerItemSummary::getNextBookingId)
+                .isEqualTo(earlier);
+    }
+
+    private long book(long itemId, LocalDateTime start) {
+        return bookingService.create(booker.getId(), BookingCreateDto.builder()
+                .itemId(itemId)
+                .start(start)
+                .end(start.plusHours(2))
+                .build()).getId();
+    }
+}
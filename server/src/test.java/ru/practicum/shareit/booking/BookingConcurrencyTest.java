@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingConcurrencyTest {
+    static final int THREADS = 16;
+    static final int ATTEMPTS_PER_THREAD = 10;
+    final BookingService bookingService;
+    final BookingRepository bookingRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    final List<User> users = new ArrayList<>();
+    final List<Item> items = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("Concurrent Owner")
+                .email("concurrent-owner@example.com")
+                .build());
+        users.add(owner);
+        for (int i = 0; i < THREADS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .name("Booker " + i)
+                    .email("concurrent-booker-" + i + "@example.com")
+                    .build()));
+        }
+        for (int i = 0; i < 2; i++) {
+            items.add(itemRepository.save(Item.builder()
+                    .name("Contended Item " + i)
+                    .description("Contended Description")
+                    .available(true)
+                    .owner(owner)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        items.forEach(item -> bookingRepository.deleteAll(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                .toList()));
+        itemRepository.deleteAll(items);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    void create_ShouldNeverAdmitOverlappingBookingsUnderContention() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            User booker = users.get(t + 1);
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    Item item = items.get((thread + attempt) % items.size());
+                    LocalDateTime start = base.plusHours((thread * 7L + attempt * 3L) % 24);
+                    BookingCreateDto bookingCreateDto = BookingCreateDto.builder()
+                            .itemId(item.getId())
+                            .start(start)
+                            .end(start.plusHours(2))
+                            .build();
+                    try {
+                        bookingService.create(booker.getId(), bookingCreateDto);
+                        admitted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(admitted.get() + rejected.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        assertThat(admitted.get()).isPositive();
+        assertThat(rejected.get()).isPositive();
+        for (Item item : items) {
+            List<Booking> bookings = bookingRepository.findAll().stream()
+                    .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                    .filter(booking -> booking.getStatus() == BookingStatus.WAITING)
+                    .toList();
+            for (int i = 0; i < bookings.size(); i++) {
+                for (int j = i + 1; j < bookings.size(); j++) {
+                    Booking first = bookings.get(i);
+                    Booking second = bookings.get(j);
+                    assertThat(first.getStart().isBefore(second.getEnd()) && second.getStart().isBefore(first.getEnd()))
+                            .as("bookings %d and %d overlap", first.getId(), second.getId())
+                            .isFalse();
+                }
+            }
+        }
+        assertThat(bookingRepository.findAll().stream()
+                .filter(booking -> items.stream().anyMatch(item -> item.getId().equals(booking.getItem().getId())))
+                .count()).isEqualTo(admitted.get());
+    }
+}
@@ -16,6 +16,8 @@ import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -32,6 +34,8 @@ class BookingControllerTest {
     final MockMvc mockMvc;
     @MockBean
     BookingService bookingService;
+    @MockBean
+    UserExistence userExistence;
     final ObjectMapper objectMapper;
     BookingDto bookingDto;
 
@@ -106,32 +110,50 @@ class BookingControllerTest {
     @Test
     void getAllByUserId_ShouldReturnBookings() throws Exception {
         List<BookingDto> bookings = Collections.singletonList(bookingDto);
-        Mockito.when(bookingService.getAllByUserId(1L, BookingState.ALL)).thenReturn(bookings);
+        Mockito.when(bookingService.getAllByUserId(1L, BookingState.ALL, null, 50))
+                .thenReturn(new CursorPage<>(bookings, "next"));
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
                 .andExpect(jsonPath("$[0].id").value(bookingDto.getId()));
     }
 
     @Test
     void getAllByOwnerId_ShouldReturnBookings() throws Exception {
         List<BookingDto> bookings = Collections.singletonList(bookingDto);
-        Mockito.when(bookingService.getAllByOwnerId(1L, BookingState.ALL)).thenReturn(bookings);
+        Mockito.when(bookingService.getAllByOwnerId(1L, BookingState.ALL, null, 50))
+                .thenReturn(new CursorPage<>(bookings, null));
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].id").value(bookingDto.getId()));
     }
 
     @Test
     void getAllByUserId_ShouldReturnEmptyList_WhenNoBookingsFound() throws Exception {
-        Mockito.when(bookingService.getAllByUserId(1L, BookingState.ALL)).thenReturn(Collections.emptyList());
+        Mockito.when(bookingService.getAllByUserId(1L, BookingState.ALL, null, 50))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isEmpty());
     }
+
+    @Test
+    void getAllByUserId_ShouldPassCursorAndSize() throws Exception {
+        Mockito.when(bookingService.getAllByUserId(1L, BookingState.ALL, "abc", 10))
+                .thenReturn(new CursorPage<>(List.of(bookingDto), null));
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("state", "ALL")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(bookingDto.getId()));
+    }
 }
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.service.BookingIntervalIndex;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingIntervalIndexTest {
+    static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    static final long ITEM_ID = 1L;
+    final List<BookingInterval> stored = new ArrayList<>();
+    final AtomicInteger loads = new AtomicInteger();
+    final AtomicReference<Instant> instant = new AtomicReference<>(NOW.toInstant(ZoneOffset.UTC));
+    BookingIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return instant.get();
+            }
+        };
+        index = new BookingIntervalIndex((itemId, horizon) -> {
+            loads.incrementAndGet();
+            return stored.stream().filter(interval -> interval.end().isAfter(horizon)).toList();
+        }, clock, Duration.ofMinutes(10));
+        stored.add(new BookingInterval(1L, NOW.plusDays(1), NOW.plusDays(2)));
+        stored.add(new BookingInterval(2L, NOW.plusDays(4), NOW.plusDays(5)));
+    }
+
+    @Test
+    void hasConflict_ShouldDetectOverlapsAndFreeGaps() {
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(2), NOW.plusDays(4))).contains(false);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusHours(36), NOW.plusDays(3))).contains(true);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(3), NOW.plusHours(100))).contains(true);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(6), NOW.plusDays(7))).contains(false);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusHours(1), NOW.plusDays(10))).contains(true);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void hasConflict_ShouldDeferToDatabaseForPeriodsBeforeHorizon() {
+        assertThat(index.hasConflict(ITEM_ID, NOW.minusDays(1), NOW.plusHours(1))).isEmpty();
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepLoadedTimelineInSync() {
+        index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11));
+        index.put(ITEM_ID, new BookingInterval(3L, NOW.plusDays(10), NOW.plusDays(11)));
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11))).contains(true);
+
+        index.remove(ITEM_ID, 3L);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11))).contains(false);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void put_ShouldIgnoreItemsThatWereNeverLoaded() {
+        index.put(2L, new BookingInterval(3L, NOW.plusDays(10), NOW.plusDays(11)));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void hasConflict_ShouldDeferToDatabaseWhenTimelineOverlaps() {
+        index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11));
+        index.put(ITEM_ID, new BookingInterval(3L, NOW.plusHours(30), NOW.plusHours(40)));
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11))).isEmpty();
+
+        index.remove(ITEM_ID, 3L);
+        assertThat(index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11))).contains(false);
+    }
+
+    @Test
+    void hasConflict_ShouldEvictTimelinesIdleLongerThanTimeout() {
+        index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11));
+        index.hasConflict(2L, NOW.plusDays(10), NOW.plusDays(11));
+        assertThat(index.timelineCount()).isEqualTo(2);
+
+        instant.set(instant.get().plus(Duration.ofMinutes(6)));
+        index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11));
+        instant.set(instant.get().plus(Duration.ofMinutes(6)));
+        index.hasConflict(ITEM_ID, NOW.plusDays(10), NOW.plusDays(11));
+
+        assertThat(index.timelineCount()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+
+        assertThat(index.hasConflict(2L, NOW.plusDays(1), NOW.plusDays(2))).contains(true);
+        assertThat(loads).hasValue(3);
+    }
+}
@@ -5,9 +5,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.cache.EntityCacheConfig;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
@@ -15,9 +20,11 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Import(EntityCacheConfig.class)
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class BookingRepositoryTest {
@@ -55,7 +62,7 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(user.getId(), LocalDateTime.now(), LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDescIdDesc(user.getId(), LocalDateTime.now(), LocalDateTime.now(), ScrollPosition.keyset(), Limit.of(10)).getContent();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst()).isEqualTo(booking);
     }
@@ -69,7 +76,7 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(user.getId(), LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDescIdDesc(user.getId(), LocalDateTime.now(), ScrollPosition.keyset(), Limit.of(10)).getContent();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst()).isEqualTo(booking);
     }
@@ -83,7 +90,7 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(user.getId(), LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDescIdDesc(user.getId(), LocalDateTime.now(), ScrollPosition.keyset(), Limit.of(10)).getContent();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst()).isEqualTo(booking);
     }
@@ -97,7 +104,7 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.WAITING)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(user.getId(), BookingStatus.WAITING);
+        List<Booking> bookings = bookingRepository.findAllByBookerIdAndStatusOrderByStartDescIdDesc(user.getId(), BookingStatus.WAITING, ScrollPosition.keyset(), Limit.of(10)).getContent();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst()).isEqualTo(booking);
     }
@@ -111,41 +118,13 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByBookerIdOrderByStartDesc(user.getId());
+        List<Booking> bookings = bookingRepository.findAllByBookerIdOrderByStartDescIdDesc(user.getId(), ScrollPosition.keyset(), Limit.of(10)).getContent();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst()).isEqualTo(booking);
     }
 
     @Test
-    void testFindAllByItemOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc() {
-        Booking booking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(1))
-                .end(LocalDateTime.now().plusDays(1))
-                .item(item)
-                .booker(user)
-                .status(BookingStatus.APPROVED)
-                .build());
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStartLessThanEqualAndEndGreaterThanEqualOrderByStartDesc(owner.getId(), LocalDateTime.now(), LocalDateTime.now());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
-    }
-
-    @Test
-    void testFindAllByItemOwnerIdAndEndBeforeOrderByStartDesc() {
-        Booking booking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(2))
-                .end(LocalDateTime.now().minusDays(1))
-                .item(item)
-                .booker(user)
-                .status(BookingStatus.APPROVED)
-                .build());
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(owner.getId(), LocalDateTime.now());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
-    }
-
-    @Test
-    void testFindAllByItemOwnerIdAndStartAfterOrderByStartDesc() {
+    void testFindFirstUpcomingBookingByItemId() {
         Booking booking = bookingRepository.save(Booking.builder()
                 .start(LocalDateTime.now().plusDays(1))
                 .end(LocalDateTime.now().plusDays(2))
@@ -153,65 +132,52 @@ class BookingRepositoryTest {
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(owner.getId(), LocalDateTime.now());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
-    }
-
-    @Test
-    void testFindAllByItemOwnerIdAndStatusOrderByStartDesc() {
-        Booking booking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(1))
-                .end(LocalDateTime.now().plusDays(1))
+        bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().plusDays(3))
+                .end(LocalDateTime.now().plusDays(4))
                 .item(item)
                 .booker(user)
-                .status(BookingStatus.WAITING)
+                .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(owner.getId(), BookingStatus.WAITING);
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
+        Optional<Booking> next = bookingRepository.findFirstByItemIdAndStatusAndStartGreaterThanEqualOrderByStartAsc(
+                item.getId(), BookingStatus.APPROVED, LocalDateTime.now());
+        assertThat(next).contains(booking);
     }
 
     @Test
-    void testFindAllByItemOwnerIdOrderByStartDesc() {
+    void testFindFirstLastBookingByItemId() {
         Booking booking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(1))
-                .end(LocalDateTime.now().plusDays(1))
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
                 .item(item)
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findAllByItemOwnerIdOrderByStartDesc(owner.getId());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
-    }
-
-    @Test
-    void testFindUpcomingBookingsByItemId() {
-        Booking booking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().plusDays(1))
-                .end(LocalDateTime.now().plusDays(2))
+        bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().minusDays(4))
+                .end(LocalDateTime.now().minusDays(3))
                 .item(item)
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findUpcomingBookingsByItemId(item.getId());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
+        Optional<Booking> last = bookingRepository.findFirstByItemIdAndStatusAndStartLessThanEqualOrderByStartDesc(
+                item.getId(), BookingStatus.APPROVED, LocalDateTime.now());
+        assertThat(last).contains(booking);
     }
 
     @Test
-    void testFindLastBookingsByItemId() {
-        Booking booking = bookingRepository.save(Booking.builder()
+    void testExistsByItemIdAndBookerIdAndStatusAndStartLessThanEqual() {
+        bookingRepository.save(Booking.builder()
                 .start(LocalDateTime.now().minusDays(2))
                 .end(LocalDateTime.now().minusDays(1))
                 .item(item)
                 .booker(user)
                 .status(BookingStatus.APPROVED)
                 .build());
-        List<Booking> bookings = bookingRepository.findLastBookingsByItemId(item.getId());
-        assertThat(bookings).hasSize(1);
-        assertThat(bookings.getFirst()).isEqualTo(booking);
+        assertThat(bookingRepository.existsByItemIdAndBookerIdAndStatusAndStartLessThanEqual(
+                item.getId(), user.getId(), BookingStatus.APPROVED, LocalDateTime.now())).isTrue();
+        assertThat(bookingRepository.existsByItemIdAndBookerIdAndStatusAndStartLessThanEqual(
+                item.getId(), owner.getId(), BookingStatus.APPROVED, LocalDateTime.now())).isFalse();
     }
 
     @Test
@@ -228,4 +194,29 @@ class BookingRepositoryTest {
         assertThat(conflictingBookings).hasSize(1);
         assertThat(conflictingBookings.getFirst()).isEqualTo(existingBooking);
     }
+
+    @Test
+    void testFindAllByBookerIdScrollsByStartAndIdWithoutGapsOrDuplicates() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            bookingRepository.save(Booking.builder()
+                    .start(i < 3 ? start : start.plusDays(i))
+                    .end(start.plusDays(10))
+                    .item(item)
+                    .booker(user)
+                    .status(BookingStatus.WAITING)
+                    .build());
+        }
+        Window<Booking> first = bookingRepository.findAllByBookerIdOrderByStartDescIdDesc(user.getId(),
+                ScrollPosition.keyset(), Limit.of(3));
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.hasNext()).isTrue();
+        Window<Booking> second = bookingRepository.findAllByBookerIdOrderByStartDescIdDesc(user.getId(),
+                first.positionAt(2), Limit.of(3));
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(first.getContent()).doesNotContainAnyElementsOf(second.getContent());
+        assertThat(second.getContent()).extracting(Booking::getStart).containsOnly(start);
+        assertThat(second.getContent().get(0).getId()).isGreaterThan(second.getContent().get(1).getId());
+    }
 }
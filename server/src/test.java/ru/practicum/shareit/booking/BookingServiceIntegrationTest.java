@@ -17,6 +17,7 @@ import ru.practicum.shareit.booking.service.BookingServiceImpl;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -223,7 +224,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().plusDays(1));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.CURRENT);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.CURRENT, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -234,7 +235,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().minusDays(1));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.PAST);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.PAST, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -245,7 +246,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().plusDays(2));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.FUTURE);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.FUTURE, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -254,7 +255,7 @@ class BookingServiceIntegrationTest {
     void testGetAllByUserIdWaitingBookings() {
         booking.setStatus(BookingStatus.WAITING);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.WAITING);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.WAITING, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -263,7 +264,7 @@ class BookingServiceIntegrationTest {
     void testGetAllByUserIdRejectedBookings() {
         booking.setStatus(BookingStatus.REJECTED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.REJECTED);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.REJECTED, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -272,7 +273,7 @@ class BookingServiceIntegrationTest {
     void testGetAllByUserIdAllBookings() {
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.ALL);
+        Collection<BookingDto> bookings = bookingService.getAllByUserId(user.getId(), BookingState.ALL, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -283,7 +284,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().plusDays(1));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.CURRENT);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.CURRENT, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -294,7 +295,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().minusDays(1));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.PAST);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.PAST, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -305,7 +306,7 @@ class BookingServiceIntegrationTest {
         booking.setEnd(LocalDateTime.now().plusDays(2));
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.FUTURE);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.FUTURE, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -314,7 +315,7 @@ class BookingServiceIntegrationTest {
     void testGetAllByOwnerIdWaitingBookings() {
         booking.setStatus(BookingStatus.WAITING);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.WAITING);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.WAITING, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -323,7 +324,7 @@ class BookingServiceIntegrationTest {
     void testGetAllByOwnerIdRejectedBookings() {
         booking.setStatus(BookingStatus.REJECTED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.REJECTED);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.REJECTED, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
@@ -332,8 +333,46 @@ class BookingServiceIntegrationTest {
     void testGetAllByOwnerIdAllBookings() {
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
-        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.ALL);
+        Collection<BookingDto> bookings = bookingService.getAllByOwnerId(owner.getId(), BookingState.ALL, null, 10).content();
         assertThat(bookings).hasSize(1);
         assertThat(bookings.iterator().next().getId()).isEqualTo(booking.getId());
     }
+
+    @Test
+    void testGetAllByUserIdFollowsCursorAcrossPages() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        booking.setStart(start);
+        bookingRepository.save(booking);
+        for (int i = 0; i < 4; i++) {
+            bookingRepository.save(Booking.builder()
+                    .start(start.plusDays(i + 1))
+                    .end(start.plusDays(i + 2))
+                    .item(item)
+                    .booker(user)
+                    .status(BookingStatus.WAITING)
+                    .build());
+        }
+        CursorPage<BookingDto> first = bookingService.getAllByUserId(user.getId(), BookingState.ALL, null, 3);
+        assertThat(first.content()).hasSize(3);
+        assertThat(first.nextCursor()).isNotNull();
+        CursorPage<BookingDto> second = bookingService.getAllByUserId(user.getId(), BookingState.ALL,
+                first.nextCursor(), 3);
+        assertThat(second.content()).hasSize(2);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.content()).extracting(BookingDto::getId).contains(booking.getId());
+    }
+
+    @Test
+    void testGetAllByUserIdWithMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getAllByUserId(user.getId(), BookingState.ALL, "not-a-cursor", 10)
+        );
+    }
+
+    @Test
+    void testGetAllByUserIdWithNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getAllByUserId(user.getId(), BookingState.ALL, null, 0)
+        );
+    }
 }
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingStatementCountTest {
+    static final int BOOKINGS = 6;
+    final BookingService bookingService;
+    final BookingRepository bookingRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    final EntityManager entityManager;
+    final EntityManagerFactory entityManagerFactory;
+    User owner;
+    User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("count-owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("count-booker@example.com").build());
+        LocalDateTime now = LocalDateTime.now();
+        BookingStatus[] statuses = {BookingStatus.APPROVED, BookingStatus.WAITING, BookingStatus.REJECTED};
+        for (int i = 0; i < BOOKINGS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .start(now.plusDays(i - 3))
+                    .end(now.plusDays(i - 2))
+                    .item(item)
+                    .booker(booker)
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void getAllByUserId_ShouldIssueSingleStatement(BookingState state) {
+        assertSingleStatement(() -> bookingService.getAllByUserId(booker.getId(), state, null, 10));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void getAllByOwnerId_ShouldIssueSingleStatement(BookingState state) {
+        assertSingleStatement(() -> bookingService.getAllByOwnerId(owner.getId(), state, null, 10));
+    }
+
+    @Test
+    void getAllByUserId_ShouldLoadEveryRowInOneStatement() {
+        CursorPage<BookingDto> page = assertSingleStatement(() ->
+                bookingService.getAllByUserId(booker.getId(), BookingState.ALL, null, 10));
+        assertThat(page.content()).hasSize(BOOKINGS)
+                .allSatisfy(booking -> assertThat(booking.getItem().getName()).startsWith("Item "));
+    }
+
+    private CursorPage<BookingDto> assertSingleStatement(Supplier<CursorPage<BookingDto>> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CursorPage<BookingDto> page = call.get();
+        assertThat(page.content()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return page;
+    }
+}
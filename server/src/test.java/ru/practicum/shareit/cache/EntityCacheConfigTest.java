@@ -0,0 +1,44 @@
+package ru.practicum.shareit.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.ShareItServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheConfigTest {
+    private static final String REGIONS = "shareit.cache.entity.regions.";
+
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                    HibernateJpaAutoConfiguration.class))
+            .withUserConfiguration(EntityConfig.class, EntityCacheConfig.class)
+            .withPropertyValues("spring.datasource.generate-unique-name=true",
+                    "spring.jpa.hibernate.ddl-auto=none",
+                    REGIONS + EntityCacheConfig.USERS + ".maximum-size=10",
+                    REGIONS + EntityCacheConfig.ITEM_REQUESTS + ".maximum-size=10",
+                    REGIONS + EntityCacheConfig.ITEMS_BY_REQUEST + ".maximum-size=10",
+                    REGIONS + "default-query-results-region.maximum-size=10");
+
+    @Test
+    void startup_ShouldSucceedWhenEveryRegionIsConfigured() {
+        contextRunner.withPropertyValues(REGIONS + EntityCacheConfig.ITEMS + ".maximum-size=10")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    void startup_ShouldFailWhenRegionIsMissing() {
+        contextRunner.run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().hasMessageContaining("[" + EntityCacheConfig.ITEMS + "]"));
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = ShareItServer.class)
+    static class EntityConfig {
+    }
+}
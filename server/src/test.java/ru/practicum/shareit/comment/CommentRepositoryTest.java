@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.cache.EntityCacheConfig;
 import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.item.model.Item;
@@ -17,6 +19,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Import(EntityCacheConfig.class)
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class CommentRepositoryTest {
@@ -59,4 +62,17 @@ class CommentRepositoryTest {
         assertThat(comments.get(0)).isEqualTo(comment1);
         assertThat(comments.get(1)).isEqualTo(comment2);
     }
+
+    @Test
+    void testFindAllByItemOwnerId() {
+        Comment comment = commentRepository.save(Comment.builder()
+                .text("Great item!")
+                .created(LocalDateTime.now())
+                .item(item)
+                .author(user)
+                .build());
+        List<Comment> comments = commentRepository.findAllByItemOwnerId(user.getId());
+        assertThat(comments).containsExactly(comment);
+        assertThat(commentRepository.findAllByItemOwnerId(user.getId() + 1)).isEmpty();
+    }
 }
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.dashboard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.dashboard.model.OwnerItemSummary;
+import ru.practicum.shareit.dashboard.repository.OwnerItemSummaryRepository;
+import ru.practicum.shareit.dashboard.service.OwnerDashboardProjector;
+import ru.practicum.shareit.dashboard.service.OwnerDashboardRefresher;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "shareit.owner-dashboard.refresh.enabled=false")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class OwnerDashboardIntegrationTest {
+    final ItemService itemService;
+    final BookingService bookingService;
+    final OwnerDashboardProjector projector;
+    final OwnerDashboardRefresher refresher;
+    final OwnerItemSummaryRepository ownerItemSummaryRepository;
+    final JdbcTemplate jdbcTemplate;
+    final EntityManagerFactory entityManagerFactory;
+    final MeterRegistry meterRegistry;
+    final CommentRepository commentRepository;
+    final BookingRepository bookingRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    User owner;
+    User booker;
+    ItemDto item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("dashboard-owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("dashboard-booker@example.com").build());
+        item = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Drill")
+                .description("Cordless")
+                .available(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void serviceWrites_ShouldKeepReadModelInStep() {
+        LocalDateTime now = LocalDateTime.now();
+        BookingDto past = book(now.minusDays(2), now.minusDays(1));
+        bookingService.updateStatus(owner.getId(), past.getId(), true);
+        BookingDto future = book(now.plusDays(1), now.plusDays(2));
+
+        assertThat(ownerBookings(BookingState.WAITING)).extracting(BookingDto::getId).containsExactly(future.getId());
+
+        itemService.addComment(item.getId(), booker.getId(), CommentDto.builder().text("Works well").build());
+        itemService.update(owner.getId(), item.getId(), ItemUpdateDto.builder().name("Hammer drill").build());
+        bookingService.updateStatus(owner.getId(), future.getId(), true);
+
+        assertThat(ownerBookings(BookingState.ALL))
+                .extracting(BookingDto::getId, booking -> booking.getItem().getName(), BookingDto::getStatus)
+                .containsExactly(
+                        tuple(future.getId(), "Hammer drill", "APPROVED"),
+                        tuple(past.getId(), "Hammer drill", "APPROVED"));
+        ItemInfoDto info = List.copyOf(itemService.getAllByUsersId(owner.getId())).getFirst();
+        assertThat(info.getName()).isEqualTo("Hammer drill");
+        assertThat(info.getLastBooking().getId()).isEqualTo(past.getId());
+        assertThat(info.getNextBooking().getId()).isEqualTo(future.getId());
+        assertThat(info.getComments()).extracting(CommentDto::getText).containsExactly("Works well");
+        assertThat(ownerItemSummaryRepository.findById(item.getId()))
+                .get().extracting(OwnerItemSummary::getCommentCount).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuild_ShouldRecoverWritesThatBypassedHibernate() {
+        LocalDateTime now = LocalDateTime.now();
+        BookingDto booking = book(now.minusDays(2), now.minusDays(1));
+        bookingService.updateStatus(owner.getId(), booking.getId(), true);
+        jdbcTemplate.update("UPDATE bookings SET status = 'REJECTED' WHERE booking_id = ?", booking.getId());
+
+        assertThat(ownerBookings(BookingState.REJECTED)).isEmpty();
+
+        projector.rebuild();
+
+        assertThat(ownerBookings(BookingState.REJECTED)).extracting(BookingDto::getId)
+                .containsExactly(booking.getId());
+        assertThat(itemService.getAllByUsersId(owner.getId()))
+                .singleElement().extracting(ItemInfoDto::getLastBooking).isNull();
+    }
+
+    @Test
+    void startedNextBooking_ShouldBeReadFromBookingsUntilRefreshed() throws InterruptedException {
+        LocalDateTime start = LocalDateTime.now().plusSeconds(1);
+        BookingDto booking = book(start, start.plusDays(1));
+        bookingService.updateStatus(owner.getId(), booking.getId(), true);
+        assertThat(itemService.getAllByUsersId(owner.getId()))
+                .singleElement().extracting(info -> info.getNextBooking().getId()).isEqualTo(booking.getId());
+
+        Thread.sleep(1100);
+
+        ItemInfoDto info = itemService.getAllByUsersId(owner.getId()).iterator().next();
+        assertThat(info.getLastBooking().getId()).isEqualTo(booking.getId());
+        assertThat(info.getNextBooking()).isNull();
+
+        assertThat(refresher.refreshExpired()).isPositive();
+        OwnerItemSummary summary = ownerItemSummaryRepository.findById(item.getId()).orElseThrow();
+        assertThat(summary.getLastBookingId()).isEqualTo(booking.getId());
+        assertThat(summary.getNextBookingId()).isNull();
+    }
+
+    @Test
+    void writeOutsideTransaction_ShouldBeCountedAndShowUpAsDrift() {
+        long drift = refresher.checkDrift();
+        double untracked = meterRegistry.counter("shareit.owner-dashboard.untracked").count();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.persist(Item.builder()
+                    .name("Ladder")
+                    .description("Aluminium")
+                    .available(true)
+                    .owner(entityManager.getReference(User.class, owner.getId()))
+                    .build());
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+
+        assertThat(meterRegistry.counter("shareit.owner-dashboard.untracked").count()).isEqualTo(untracked + 1);
+        assertThat(refresher.checkDrift()).isEqualTo(drift + 1);
+        assertThat(meterRegistry.get("shareit.owner-dashboard.drift").gauge().value()).isEqualTo(drift + 1.0);
+
+        projector.rebuild();
+
+        assertThat(refresher.checkDrift()).isZero();
+        assertThat(itemService.getAllByUsersId(owner.getId())).extracting(ItemInfoDto::getName)
+                .containsExactly("Drill", "Ladder");
+    }
+
+    private BookingDto book(LocalDateTime start, LocalDateTime end) {
+        return bookingService.create(booker.getId(), BookingCreateDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(end)
+                .build());
+    }
+
+    private List<BookingDto> ownerBookings(BookingState state) {
+        return bookingService.getAllByOwnerId(owner.getId(), state, null, 10).content();
+    }
+}
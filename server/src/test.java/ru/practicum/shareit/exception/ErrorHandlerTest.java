@@ -5,15 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.controller.ItemController;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ItemController.class)
@@ -21,6 +24,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class ErrorHandlerTest {
     @MockBean
     ItemService itemService;
+    @MockBean
+    UserExistence userExistence;
     @Autowired
     MockMvc mockMvc;
 
@@ -50,4 +55,24 @@ class ErrorHandlerTest {
                 .andExpect(status().isInternalServerError())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
+
+    @Test
+    void handleDataIntegrityViolationForDeletedUser() throws Exception {
+        when(itemService.getAllByUsersId(anyLong())).thenThrow(DataIntegrityViolationException.class);
+        when(userExistence.recheck(1L)).thenReturn(false);
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Пользователя с id=1 не существует"));
+    }
+
+    @Test
+    void handleDataIntegrityViolationForExistingUser() throws Exception {
+        when(itemService.getAllByUsersId(anyLong())).thenThrow(DataIntegrityViolationException.class);
+        when(userExistence.recheck(1L)).thenReturn(true);
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
 }
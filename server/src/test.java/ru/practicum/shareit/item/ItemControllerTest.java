@@ -18,6 +18,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -34,6 +35,8 @@ class ItemControllerTest {
     final MockMvc mockMvc;
     @MockBean
     ItemService itemService;
+    @MockBean
+    UserExistence userExistence;
     final ObjectMapper objectMapper;
     ItemDto itemDto;
     ItemInfoDto itemInfoDto;
@@ -168,7 +171,7 @@ class ItemControllerTest {
 
     @Test
     void search_ShouldReturnItems_WhenTextIsValid() throws Exception {
-        Mockito.when(itemService.getAllByText("search")).thenReturn(Collections.singletonList(itemDto));
+        Mockito.when(itemService.getAllByText("search", 0, 50)).thenReturn(Collections.singletonList(itemDto));
         mockMvc.perform(get("/items/search")
                         .param("text", "search")
                         .header("X-Sharer-User-Id", 1L))
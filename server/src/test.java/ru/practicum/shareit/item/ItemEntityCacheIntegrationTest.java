@@ -0,0 +1,108 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserCreateDto;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemEntityCacheIntegrationTest {
+    final ItemService itemService;
+    final ItemRequestService itemRequestService;
+    final UserService userService;
+    final ItemRepository itemRepository;
+    final ItemRequestRepository itemRequestRepository;
+    final UserRepository userRepository;
+    final EntityManagerFactory entityManagerFactory;
+    Statistics statistics;
+    UserDto owner;
+    UserDto requestor;
+    ItemRequestDto request;
+    ItemDto item;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        owner = userService.create(UserCreateDto.builder().name("Owner").email("l2-owner@example.com").build());
+        requestor = userService.create(UserCreateDto.builder()
+                .name("Requestor")
+                .email("l2-requestor@example.com")
+                .build());
+        request = itemRequestService.create(requestor.getId(),
+                ItemRequestDto.builder().description("Need a drill").build());
+        item = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Drill")
+                .description("Cordless drill")
+                .available(true)
+                .requestId(request.getId())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .toList());
+        itemRequestRepository.deleteById(request.getId());
+        userRepository.deleteById(owner.getId());
+        userRepository.deleteById(requestor.getId());
+    }
+
+    @Test
+    void getRequestById_ShouldServeItemsFromQueryCacheUntilItemsChange() {
+        itemRequestService.getById(requestor.getId(), request.getId());
+
+        statistics.clear();
+        assertThat(itemRequestService.getById(requestor.getId(), request.getId()).getItems())
+                .extracting(ItemForRequestDto::getName)
+                .containsExactly("Drill");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Hammer drill")
+                .description("Corded hammer drill")
+                .available(true)
+                .requestId(request.getId())
+                .build());
+        assertThat(itemRequestService.getById(requestor.getId(), request.getId()).getItems())
+                .extracting(ItemForRequestDto::getName)
+                .containsExactlyInAnyOrder("Drill", "Hammer drill");
+    }
+
+    @Test
+    void getItemById_ShouldSeeUpdatesMadeThroughService() {
+        itemService.getById(owner.getId(), item.getId());
+
+        statistics.clear();
+        itemService.getById(owner.getId(), item.getId());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+
+        itemService.update(owner.getId(), item.getId(), ItemUpdateDto.builder().name("Impact drill").build());
+        assertThat(itemService.getById(owner.getId(), item.getId()).getName()).isEqualTo("Impact drill");
+        assertThat(itemRepository.findById(item.getId()).orElseThrow().getName()).isEqualTo("Impact drill");
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "shareit.item.import.flush-size=50"
+})
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemImportIntegrationTest {
+    static final int ROWS = 120;
+
+    final MockMvc mockMvc;
+    final ObjectMapper objectMapper;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    final EntityManagerFactory entityManagerFactory;
+    Statistics statistics;
+    User owner;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(User.builder().name("Shop").email("import-shop@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll(ownerItems());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void importJsonArray_ShouldCreateValidRowsAndReportRejectedOnes() throws Exception {
+        List<ItemCreateDto> rows = List.of(
+                item("Drill"),
+                item(" "),
+                ItemCreateDto.builder().name("Saw").description("Hand saw").available(true).requestId(-1L).build(),
+                item("Ladder"));
+
+        ItemImportResultDto result = importItems(MediaType.APPLICATION_JSON,
+                objectMapper.writeValueAsString(rows));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getRows()).extracting(ItemImportRowDto::getIndex, ItemImportRowDto::getStatus)
+                .containsExactly(
+                        tuple(0, ItemImportRowDto.Status.CREATED),
+                        tuple(1, ItemImportRowDto.Status.REJECTED),
+                        tuple(2, ItemImportRowDto.Status.REJECTED),
+                        tuple(3, ItemImportRowDto.Status.CREATED));
+        assertThat(result.getRows().get(2).getError()).isEqualTo("Запроса с id=-1 не существует");
+        assertThat(ownerItems())
+                .extracting(Item::getName)
+                .containsExactly("Drill", "Ladder");
+    }
+
+    @Test
+    void importNdjson_ShouldInsertRowsInJdbcBatches() throws Exception {
+        String body = IntStream.range(0, ROWS)
+                .mapToObj(i -> write(item("Item " + i)))
+                .collect(Collectors.joining("\n"));
+
+        statistics.clear();
+        ItemImportResultDto result = importItems(MediaType.APPLICATION_NDJSON, body);
+
+        assertThat(result.getCreated()).isEqualTo(ROWS);
+        assertThat(result.getRows()).extracting(ItemImportRowDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+        assertThat(ownerItems()).hasSize(ROWS);
+    }
+
+    @Test
+    void importNdjson_ShouldRejectWholeStreamWhenLineIsNotJson() throws Exception {
+        String body = write(item("Drill")) + "\n{not json\n" + write(item("Ladder"));
+
+        mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        assertThat(ownerItems()).isEmpty();
+    }
+
+    private ItemImportResultDto importItems(MediaType contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readValue(response, ItemImportResultDto.class);
+    }
+
+    private String write(ItemCreateDto item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ItemCreateDto item(String name) {
+        return ItemCreateDto.builder().name(name).description(name + " for rent").available(true).build();
+    }
+
+    private List<Item> ownerItems() {
+        return itemRepository.findAll(Sort.by("id")).stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .toList();
+    }
+}
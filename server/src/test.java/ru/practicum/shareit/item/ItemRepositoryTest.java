@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.cache.EntityCacheConfig;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
@@ -15,6 +17,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Import(EntityCacheConfig.class)
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRepositoryTest {
@@ -30,26 +33,6 @@ class ItemRepositoryTest {
                 .build());
     }
 
-    @Test
-    void testFindAllByOwnerId() {
-        Item item1 = itemRepository.save(Item.builder()
-                .name("Item1")
-                .description("Description1")
-                .available(true)
-                .owner(user)
-                .build());
-        Item item2 = itemRepository.save(Item.builder()
-                .name("Item2")
-                .description("Description2")
-                .available(true)
-                .owner(user)
-                .build());
-        List<Item> items = itemRepository.findAllByOwnerId(user.getId());
-        assertThat(items).hasSize(2);
-        assertThat(items.get(0)).isEqualTo(item1);
-        assertThat(items.get(1)).isEqualTo(item2);
-    }
-
     @Test
     void testFindById() {
         Item item = itemRepository.save(Item.builder()
@@ -64,14 +47,14 @@ class ItemRepositoryTest {
     }
 
     @Test
-    void testSearchByText() {
+    void testSearchRankedByPattern() {
         Item item = itemRepository.save(Item.builder()
                 .name("TestItem")
                 .description("A description of the item")
                 .available(true)
                 .owner(user)
                 .build());
-        List<Item> items = itemRepository.searchByText("TestItem");
+        List<Item> items = itemRepository.searchRankedByPattern("testitem", "testitem%", "%testitem%", 0, 10);
         assertThat(items).hasSize(1);
         assertThat(items.getFirst()).isEqualTo(item);
     }
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSearcher;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.item.search.engine=index")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemSearchIndexIntegrationTest {
+    final ItemService itemService;
+    final ItemSearcher itemSearcher;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("Index Owner")
+                .email("index-owner@example.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .toList());
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void search_ShouldFollowCommittedCreateUpdateAndDelete() {
+        ItemDto item = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Telescope")
+                .description("Refractor")
+                .available(true)
+                .build());
+        assertThat(itemService.getAllByText("lesco", 0, 10)).extracting(ItemDto::getId).containsExactly(item.getId());
+
+        itemService.update(owner.getId(), item.getId(), ItemUpdateDto.builder().available(false).build());
+        assertThat(itemService.getAllByText("lesco", 0, 10)).isEmpty();
+
+        itemService.update(owner.getId(), item.getId(), ItemUpdateDto.builder().available(true).build());
+        itemService.delete(item.getId(), owner.getId());
+        assertThat(itemService.getAllByText("lesco", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildIndex_ShouldPickUpItemsWrittenBehindTheService() {
+        Item item = itemRepository.save(Item.builder()
+                .name("Microscope")
+                .description("Written directly")
+                .available(true)
+                .owner(owner)
+                .build());
+        assertThat(itemService.getAllByText("microscope", 0, 10)).isEmpty();
+
+        itemSearcher.rebuildIndex();
+        assertThat(itemService.getAllByText("microscope", 0, 10)).extracting(ItemDto::getId)
+                .containsExactly(item.getId());
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.ItemSearchDocument;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+    ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemSearchIndex();
+        index.load(new ItemSearchDocument(1L, "Hammer", "Drill bits included", true));
+        index.load(new ItemSearchDocument(2L, "Cordless drill", "Battery", true));
+        index.load(new ItemSearchDocument(3L, "Drill press", "Bench tool", true));
+        index.load(new ItemSearchDocument(4L, "Drill", "Basic", true));
+        index.load(new ItemSearchDocument(5L, "Drill", "Broken", false));
+        index.markReady();
+    }
+
+    @Test
+    void search_ShouldRankAvailableMatchesLikeDatabaseSearch() {
+        assertThat(index.search("drill", 0, 10)).extracting(ItemSearchDocument::id)
+                .containsExactly(4L, 3L, 2L, 1L);
+        assertThat(index.search("drill", 1, 2)).extracting(ItemSearchDocument::id)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsShorterThanTrigramsAndRejectFalsePositives() {
+        assertThat(index.search("dr", 0, 10)).extracting(ItemSearchDocument::id).containsExactly(3L, 4L, 2L, 1L);
+        assertThat(index.search("ll pr", 0, 10)).extracting(ItemSearchDocument::id).containsExactly(3L);
+        assertThat(index.search("drillx", 0, 10)).isEmpty();
+        assertThat(index.search("ress dri", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void putAndRemove_ShouldUpdatePostingsAndAvailability() {
+        index.put(new ItemSearchDocument(4L, "Saw", "Basic", true));
+        index.put(new ItemSearchDocument(5L, "Drill", "Repaired", true));
+        assertThat(index.search("drill", 0, 10)).extracting(ItemSearchDocument::id)
+                .containsExactly(5L, 3L, 2L, 1L);
+
+        index.remove(3L);
+        assertThat(index.search("press", 0, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void load_ShouldNotOverwriteChangesMadeDuringRebuild() {
+        ItemSearchIndex rebuilding = new ItemSearchIndex();
+        rebuilding.put(new ItemSearchDocument(1L, "Ladder", "Updated", true));
+        rebuilding.remove(2L);
+        rebuilding.load(new ItemSearchDocument(1L, "Hammer", "Stale", true));
+        rebuilding.load(new ItemSearchDocument(2L, "Hammer", "Deleted", true));
+        rebuilding.markReady();
+
+        assertThat(rebuilding.isReady()).isTrue();
+        assertThat(rebuilding.search("hammer", 0, 10)).isEmpty();
+        assertThat(rebuilding.search("ladder", 0, 10)).extracting(ItemSearchDocument::id).containsExactly(1L);
+    }
+}
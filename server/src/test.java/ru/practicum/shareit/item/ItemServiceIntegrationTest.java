@@ -26,6 +26,7 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -75,6 +76,41 @@ class ItemServiceIntegrationTest {
         assertThat(items.iterator().next().getId()).isEqualTo(item.getId());
     }
 
+    @Test
+    void testGetAllByUsersIdWithBookingsAndComments() {
+        Item secondItem = itemRepository.save(Item.builder()
+                .name("Second Item")
+                .description("Second Description")
+                .available(true)
+                .owner(owner)
+                .build());
+        Booking lastBooking = bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.APPROVED)
+                .build());
+        Booking nextBooking = bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .item(secondItem)
+                .booker(user)
+                .status(BookingStatus.APPROVED)
+                .build());
+        itemService.addComment(item.getId(), user.getId(), CommentDto.builder().text("Great Item").build());
+
+        List<ItemInfoDto> items = List.copyOf(itemService.getAllByUsersId(owner.getId()));
+
+        assertThat(items).extracting(ItemInfoDto::getId).containsExactly(item.getId(), secondItem.getId());
+        assertThat(items.get(0).getLastBooking().getId()).isEqualTo(lastBooking.getId());
+        assertThat(items.get(0).getNextBooking()).isNull();
+        assertThat(items.get(0).getComments()).extracting(CommentDto::getText).containsExactly("Great Item");
+        assertThat(items.get(1).getLastBooking()).isNull();
+        assertThat(items.get(1).getNextBooking().getId()).isEqualTo(nextBooking.getId());
+        assertThat(items.get(1).getComments()).isEmpty();
+    }
+
     @Test
     void testGetById() {
         ItemInfoDto itemInfoDto = itemService.getById(owner.getId(), item.getId());
@@ -142,11 +178,39 @@ class ItemServiceIntegrationTest {
 
     @Test
     void testGetAllByText() {
-        Collection<ItemDto> items = itemService.getAllByText("Test");
+        Collection<ItemDto> items = itemService.getAllByText("Test", 0, 10);
         assertThat(items).hasSize(1);
         assertThat(items.iterator().next().getId()).isEqualTo(item.getId());
     }
 
+    @Test
+    void testGetAllByTextRanksNameMatchesFirstAndPages() {
+        Item descriptionMatch = saveItem("Hammer", "Drill bits included", true);
+        Item containsMatch = saveItem("Cordless drill", "Battery", true);
+        Item prefixMatch = saveItem("Drill press", "Bench tool", true);
+        Item exactMatch = saveItem("Drill", "Basic", true);
+        saveItem("Drill", "Not available", false);
+        List<Long> ids = itemService.getAllByText("DRILL", 0, 10).stream().map(ItemDto::getId).toList();
+        assertThat(ids).containsExactly(exactMatch.getId(), prefixMatch.getId(), containsMatch.getId(),
+                descriptionMatch.getId());
+        assertThat(itemService.getAllByText("drill", 1, 2)).extracting(ItemDto::getId)
+                .containsExactly(prefixMatch.getId(), containsMatch.getId());
+    }
+
+    @Test
+    void testGetAllByTextTreatsWildcardsLiterally() {
+        Item discount = saveItem("Tent 50% off", "Camping", true);
+        saveItem("Tent 500", "Camping", true);
+        assertThat(itemService.getAllByText("50%", 0, 10)).extracting(ItemDto::getId)
+                .containsExactly(discount.getId());
+    }
+
+    @Test
+    void testGetAllByTextWithInvalidPaging() {
+        assertThrows(IllegalArgumentException.class, () -> itemService.getAllByText("Test", -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> itemService.getAllByText("Test", 0, 0));
+    }
+
     @Test
     void testAddCommentSuccess() {
         Booking booking = bookingRepository.save(Booking.builder()
@@ -173,4 +237,34 @@ class ItemServiceIntegrationTest {
                 itemService.addComment(item.getId(), user.getId(), commentDto)
         );
     }
+
+    @Test
+    void testAddCommentByUserWhoDidNotBookItem() {
+        User stranger = userRepository.save(User.builder()
+                .name("Stranger")
+                .email("stranger@example.com")
+                .build());
+        bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.APPROVED)
+                .build());
+        CommentDto commentDto = CommentDto.builder()
+                .text("Great Item")
+                .build();
+        assertThrows(IllegalArgumentException.class, () ->
+                itemService.addComment(item.getId(), stranger.getId(), commentDto)
+        );
+    }
+
+    private Item saveItem(String name, String description, boolean available) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build());
+    }
 }
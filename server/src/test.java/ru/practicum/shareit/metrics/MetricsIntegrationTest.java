@@ -0,0 +1,79 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.dto.UserCreateDto;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class MetricsIntegrationTest {
+    final MockMvc mockMvc;
+    final MeterRegistry meterRegistry;
+    final UserService userService;
+    final UserRepository userRepository;
+    UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.create(UserCreateDto.builder().name("Metered").email("metered@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void request_ShouldRecordServiceTimerAndStatementCount() throws Exception {
+        Timer before = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("class", UserServiceImpl.class.getName())
+                .tag("method", "getAll")
+                .timer();
+        long calls = before == null ? 0 : before.count();
+
+        mockMvc.perform(get("/users")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.get(MetricsConfig.SERVICE_TIMER)
+                .tag("class", UserServiceImpl.class.getName())
+                .tag("method", "getAll")
+                .timer().count()).isEqualTo(calls + 1);
+        DistributionSummary statements = meterRegistry.get(StatementCountInterceptor.METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/users")
+                .summary();
+        assertThat(statements.count()).isPositive();
+        assertThat(statements.max()).isEqualTo(1);
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeHistograms() throws Exception {
+        mockMvc.perform(get("/users"));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("shareit_service_seconds_bucket")))
+                .andExpect(content().string(containsString("shareit_request_statements_bucket")));
+    }
+}
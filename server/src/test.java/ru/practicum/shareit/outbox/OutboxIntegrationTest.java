@@ -0,0 +1,134 @@
+package ru.practicum.shareit.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {"shareit.outbox.sink=memory", "shareit.outbox.relay.enabled=false"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class OutboxIntegrationTest {
+    final ItemService itemService;
+    final BookingService bookingService;
+    final OutboxRelay outboxRelay;
+    final OutboxSink outboxSink;
+    final OutboxWriter outboxWriter;
+    final JdbcTemplate jdbcTemplate;
+    final PlatformTransactionManager transactionManager;
+    final CommentRepository commentRepository;
+    final BookingRepository bookingRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    User owner;
+    User booker;
+    ItemDto item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Owner").email("outbox-owner@example.com").build());
+        booker = userRepository.save(User.builder().name("Booker").email("outbox-booker@example.com").build());
+        item = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Drill")
+                .description("Cordless")
+                .available(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        ((InMemoryOutboxSink) outboxSink).clear();
+    }
+
+    @Test
+    void relayPending_ShouldPublishCommittedEventsInOrderAndEmptyTheOutbox() {
+        LocalDateTime start = LocalDateTime.now().minusDays(2);
+        BookingDto booking = bookingService.create(booker.getId(), BookingCreateDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(start.plusDays(1))
+                .build());
+        bookingService.updateStatus(owner.getId(), booking.getId(), true);
+        itemService.addComment(item.getId(), booker.getId(), CommentDto.builder().text("Works well").build());
+        itemService.update(owner.getId(), item.getId(), ItemUpdateDto.builder().name("Hammer drill").build());
+        ItemDto removed = itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name("Ladder")
+                .description("Broken")
+                .available(true)
+                .build());
+        itemService.delete(removed.getId(), owner.getId());
+        assertThatThrownBy(() -> bookingService.create(owner.getId(), BookingCreateDto.builder()
+                .itemId(item.getId())
+                .start(start.plusDays(10))
+                .end(start.plusDays(11))
+                .build()))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(7);
+
+        assertThat(((InMemoryOutboxSink) outboxSink).messages())
+                .extracting(OutboxMessage::type, OutboxMessage::aggregateType, OutboxMessage::aggregateId)
+                .containsExactly(
+                        tuple("ITEM_CREATED", "item", item.getId()),
+                        tuple("BOOKING_CREATED", "booking", booking.getId()),
+                        tuple("BOOKING_APPROVED", "booking", booking.getId()),
+                        tuple("COMMENT_ADDED", "item", item.getId()),
+                        tuple("ITEM_UPDATED", "item", item.getId()),
+                        tuple("ITEM_CREATED", "item", removed.getId()),
+                        tuple("ITEM_DELETED", "item", removed.getId()));
+        assertThat(((InMemoryOutboxSink) outboxSink).messages().get(2).payload())
+                .contains("\"status\":\"APPROVED\"");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isZero();
+        assertThat(outboxRelay.relayPending()).isZero();
+    }
+
+    @Test
+    void relayPending_ShouldKeepEventsWhenSinkFails() {
+        OutboxRelay failingRelay = new OutboxRelay(jdbcTemplate, messages -> {
+            throw new IllegalStateException("Sink is down");
+        }, transactionManager, new SimpleMeterRegistry(), false, 500, 1000);
+
+        assertThatThrownBy(failingRelay::relayPending).isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isEqualTo(1);
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(1);
+        assertThat(((InMemoryOutboxSink) outboxSink).messages()).extracting(OutboxMessage::type)
+                .containsExactly("ITEM_CREATED");
+    }
+
+    @Test
+    void record_ShouldRequireTransaction() {
+        assertThatThrownBy(() -> outboxWriter.record(OutboxEventType.ITEM_DELETED, 1L, Map.of("id", 1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -9,11 +9,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.controller.ItemRequestController;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.service.UserExistence;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -30,6 +33,8 @@ class ItemRequestControllerTest {
     MockMvc mockMvc;
     @MockBean
     ItemRequestService itemRequestService;
+    @MockBean
+    UserExistence userExistence;
     @Autowired
     ObjectMapper objectMapper;
     ItemRequestDto itemRequestDto;
@@ -65,7 +70,7 @@ class ItemRequestControllerTest {
     @Test
     void getAllByUserId_ShouldReturnRequestsForUser() throws Exception {
         List<ItemRequestInfoDto> requests = Collections.singletonList(itemRequestInfoDto);
-        Mockito.when(itemRequestService.getAllByUserId(1L)).thenReturn(requests);
+        Mockito.when(itemRequestService.getAllByUserId(1L, 0, 50)).thenReturn(requests);
         mockMvc.perform(get("/requests")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isOk())
@@ -74,7 +79,7 @@ class ItemRequestControllerTest {
 
     @Test
     void getAllByUserId_ShouldReturnEmptyList_WhenNoRequests() throws Exception {
-        Mockito.when(itemRequestService.getAllByUserId(1L)).thenReturn(Collections.emptyList());
+        Mockito.when(itemRequestService.getAllByUserId(1L, 0, 50)).thenReturn(Collections.emptyList());
         mockMvc.perform(get("/requests")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isOk())
@@ -84,15 +89,34 @@ class ItemRequestControllerTest {
     @Test
     void getAllOtherUsers_ShouldReturnRequests() throws Exception {
         List<ItemRequestDto> requests = Collections.singletonList(itemRequestDto);
-        Mockito.when(itemRequestService.getAllOtherUsers(1L, 0, 10)).thenReturn(requests);
+        Mockito.when(itemRequestService.getAllOtherUsers(1L, "cursor", 10))
+                .thenReturn(new CursorPage<>(requests, "next"));
         mockMvc.perform(get("/requests/all")
                         .header("X-Sharer-User-Id", 1L)
-                        .param("from", "0")
+                        .param("cursor", "cursor")
                         .param("size", "10"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
                 .andExpect(jsonPath("$[0].id").value(itemRequestDto.getId()));
     }
 
+    @Test
+    void getMatches_ShouldReturnCandidateItems() throws Exception {
+        ItemRequestMatchDto match = ItemRequestMatchDto.builder()
+                .itemId(5L)
+                .name("Drill")
+                .description("Cordless")
+                .ownerId(2L)
+                .score(0.75)
+                .build();
+        Mockito.when(itemRequestService.getMatches(1L, 1L)).thenReturn(List.of(match));
+        mockMvc.perform(get("/requests/1/matches")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemId").value(5L))
+                .andExpect(jsonPath("$[0].score").value(0.75));
+    }
+
     @Test
     void getById_ShouldReturnRequest() throws Exception {
         Mockito.when(itemRequestService.getById(1L, 1L)).thenReturn(itemRequestInfoDto);
@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.cache.EntityCacheConfig;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -16,6 +19,7 @@ import java.util.Collection;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Import(EntityCacheConfig.class)
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemRequestRepositoryTest {
@@ -23,7 +27,7 @@ class ItemRequestRepositoryTest {
     final UserRepository userRepository;
 
     @Test
-    void testFindAllByRequestorId() {
+    void testFindPageByRequestorId() {
         User user = userRepository.save(User.builder()
                 .name("John")
                 .email("john@example.com")
@@ -33,22 +37,33 @@ class ItemRequestRepositoryTest {
                 .created(LocalDateTime.now())
                 .requestor(user)
                 .build());
-        Collection<ItemRequest> requests = itemRequestRepository.findAllByRequestorId(user.getId());
+        Collection<ItemRequest> requests = itemRequestRepository.findPageByRequestorId(user.getId(), 0, 10);
         assertThat(requests).isNotEmpty();
     }
 
     @Test
-    void testFindAllByOrderByCreatedDesc() {
+    void testFindAllByRequestorIdNot() {
         User user = userRepository.save(User.builder()
                 .name("John")
                 .email("john@example.com")
                 .build());
+        User other = userRepository.save(User.builder()
+                .name("Jane")
+                .email("jane@example.com")
+                .build());
         itemRequestRepository.save(ItemRequest.builder()
                 .description("Need an item")
                 .created(LocalDateTime.now())
                 .requestor(user)
                 .build());
-        Page<ItemRequest> requests = itemRequestRepository.findAllByOrderByCreatedDesc(PageRequest.of(0, 10));
-        assertThat(requests.getContent()).isNotEmpty();
+        ItemRequest othersRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Need another item")
+                .created(LocalDateTime.now())
+                .requestor(other)
+                .build());
+        Window<ItemRequest> requests = itemRequestRepository.findAllByRequestorIdNotOrderByCreatedDescIdDesc(
+                user.getId(), ScrollPosition.keyset(), Limit.of(10));
+        assertThat(requests.getContent()).containsExactly(othersRequest);
+        assertThat(requests.hasNext()).isFalse();
     }
 }
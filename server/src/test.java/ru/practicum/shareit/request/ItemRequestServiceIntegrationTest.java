@@ -7,6 +7,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -16,7 +20,10 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +36,7 @@ class ItemRequestServiceIntegrationTest {
     final ItemRequestServiceImpl itemRequestService;
     final ItemRequestRepository itemRequestRepository;
     final UserRepository userRepository;
+    final ItemRepository itemRepository;
     User user;
 
     @BeforeEach
@@ -67,31 +75,78 @@ class ItemRequestServiceIntegrationTest {
                 .created(LocalDateTime.now())
                 .requestor(user)
                 .build());
-        Collection<ItemRequestInfoDto> requests = itemRequestService.getAllByUserId(user.getId());
+        Collection<ItemRequestInfoDto> requests = itemRequestService.getAllByUserId(user.getId(), 0, 10);
         assertThat(requests).hasSize(1);
     }
 
+    @Test
+    void getAllByUserId_ShouldPageNewestFirstWithAnsweringItems() {
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@example.com").build());
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(itemRequestRepository.save(ItemRequest.builder()
+                    .description("Request " + i)
+                    .created(now.minusHours(i))
+                    .requestor(user)
+                    .build()));
+        }
+        itemRepository.save(Item.builder().name("Drill").description("Drill").available(true)
+                .owner(owner).request(requests.get(1)).build());
+        itemRepository.save(Item.builder().name("Saw").description("Saw").available(true)
+                .owner(owner).request(requests.get(1)).build());
+        itemRepository.save(Item.builder().name("Tent").description("Tent").available(true)
+                .owner(owner).request(requests.get(2)).build());
+
+        List<ItemRequestInfoDto> page = List.copyOf(itemRequestService.getAllByUserId(user.getId(), 1, 2));
+
+        assertThat(page).extracting(ItemRequestInfoDto::getDescription).containsExactly("Request 1", "Request 2");
+        assertThat(page.get(0).getItems()).extracting(ItemForRequestDto::getName)
+                .containsExactlyInAnyOrder("Drill", "Saw");
+        assertThat(page.get(0).getItems()).extracting(ItemForRequestDto::getOwnerId).containsOnly(owner.getId());
+        assertThat(page.get(1).getItems()).extracting(ItemForRequestDto::getName).containsExactly("Tent");
+    }
+
     @Test
     void getAllByUserId_UserNotFound_ShouldThrowNotFoundException() {
         long invalidUserId = 999L;
-        assertThrows(NotFoundException.class, () -> itemRequestService.getAllByUserId(invalidUserId));
+        assertThrows(NotFoundException.class, () -> itemRequestService.getAllByUserId(invalidUserId, 0, 10));
     }
 
     @Test
     void testGetAllRequestsOtherUsers() {
+        User other = userRepository.save(User.builder()
+                .name("Other User")
+                .email("other@example.com")
+                .build());
         itemRequestRepository.save(ItemRequest.builder()
-                .description("Request description")
+                .description("Own request")
                 .created(LocalDateTime.now())
                 .requestor(user)
                 .build());
-        Collection<ItemRequestDto> requests = itemRequestService.getAllOtherUsers(user.getId(), 0, 10);
-        assertThat(requests).hasSize(1);
+        LocalDateTime created = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 1; i <= 3; i++) {
+            itemRequestRepository.save(ItemRequest.builder()
+                    .description("Request " + i)
+                    .created(created.plusHours(i))
+                    .requestor(other)
+                    .build());
+        }
+
+        CursorPage<ItemRequestDto> first = itemRequestService.getAllOtherUsers(user.getId(), null, 2);
+        assertThat(first.content()).extracting(ItemRequestDto::getDescription)
+                .containsExactly("Request 3", "Request 2");
+        assertThat(first.nextCursor()).isNotNull();
+
+        CursorPage<ItemRequestDto> second = itemRequestService.getAllOtherUsers(user.getId(), first.nextCursor(), 2);
+        assertThat(second.content()).extracting(ItemRequestDto::getDescription).containsExactly("Request 1");
+        assertThat(second.nextCursor()).isNull();
     }
 
     @Test
     void getAllOtherUsers_UserNotFound_ShouldThrowNotFoundException() {
         long invalidUserId = 999L;
-        assertThrows(NotFoundException.class, () -> itemRequestService.getAllOtherUsers(invalidUserId, 0, 10));
+        assertThrows(NotFoundException.class, () -> itemRequestService.getAllOtherUsers(invalidUserId, null, 10));
     }
 
     @Test
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.request.model.RequestMatchDocument;
+import ru.practicum.shareit.request.service.RequestMatchIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMatchIndexTest {
+    RequestMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RequestMatchIndex();
+        index.put(new RequestMatchDocument(1L, "Need a cordless drill", 10L));
+        index.put(new RequestMatchDocument(2L, "Drill", 11L));
+        index.put(new RequestMatchDocument(3L, "Camping tent for two", 12L));
+        index.put(new RequestMatchDocument(4L, "A drill, please", 20L));
+    }
+
+    @Test
+    void match_ShouldScoreByShareOfRequestTrigramsAndSkipOwnRequests() {
+        assertThat(index.match("Drill Bosch, cordless", 20L, 0.4, 10))
+                .extracting(RequestMatchIndex.Match::requestId)
+                .containsExactly(2L, 1L);
+        assertThat(index.match("Drill Bosch, cordless", 20L, 0.4, 10).getFirst().score()).isEqualTo(1.0);
+        assertThat(index.match("Drill Bosch, cordless", 20L, 0.4, 1))
+                .extracting(RequestMatchIndex.Match::requestId)
+                .containsExactly(2L);
+        assertThat(index.match("Tent", 20L, 0.4, 10)).isEmpty();
+        assertThat(index.match("Tent", 20L, 0.2, 10))
+                .extracting(RequestMatchIndex.Match::requestId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepPostingsInSync() {
+        index.put(new RequestMatchDocument(2L, "Kayak", 11L));
+        assertThat(index.match("Kayak paddle", 20L, 0.4, 10))
+                .extracting(RequestMatchIndex.Match::requestId)
+                .containsExactly(2L);
+        assertThat(index.match("Drill", 30L, 0.4, 10))
+                .extracting(RequestMatchIndex.Match::requestId)
+                .containsExactly(4L);
+
+        index.remove(2L);
+        index.remove(4L);
+        assertThat(index.match("Kayak", 20L, 0.0, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,127 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMatchDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RequestMatchingIntegrationTest {
+    final ItemRequestService itemRequestService;
+    final ItemService itemService;
+    final ItemRequestRepository itemRequestRepository;
+    final ItemRepository itemRepository;
+    final UserRepository userRepository;
+    User requestor;
+    User owner;
+
+    @BeforeEach
+    void setUp() {
+        requestor = userRepository.save(User.builder().name("Requestor").email("requestor@example.com").build());
+        owner = userRepository.save(User.builder().name("Owner").email("matched-owner@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .toList());
+        itemRequestRepository.deleteAll(itemRequestRepository.findPageByRequestorId(requestor.getId(), 0, 100));
+        userRepository.delete(owner);
+        userRepository.delete(requestor);
+    }
+
+    @Test
+    void itemChanges_ShouldMaintainCandidateMatches() throws InterruptedException {
+        ItemRequestDto request = itemRequestService.create(requestor.getId(),
+                ItemRequestDto.builder().description("Need a cordless drill").build());
+        ItemDto drill = createItem("Drill", "Cordless, two batteries", null);
+        ItemDto tent = createItem("Tent", "Two-person", null);
+
+        Collection<ItemRequestMatchDto> matches = awaitMatches(request.getId(), found -> !found.isEmpty());
+        assertThat(matches).extracting(ItemRequestMatchDto::getItemId).containsExactly(drill.getId());
+        assertThat(matches).extracting(ItemRequestMatchDto::getOwnerId).containsExactly(owner.getId());
+        assertThat(matches.iterator().next().getScore()).isBetween(0.4, 1.0);
+
+        itemService.update(owner.getId(), drill.getId(), ItemUpdateDto.builder().available(false).build());
+        awaitMatches(request.getId(), Collection::isEmpty);
+
+        itemService.update(owner.getId(), tent.getId(), ItemUpdateDto.builder().description("Cordless drill").build());
+        assertThat(awaitMatches(request.getId(), found -> !found.isEmpty()))
+                .extracting(ItemRequestMatchDto::getItemId)
+                .containsExactly(tent.getId());
+    }
+
+    @Test
+    void answeredRequest_ShouldStopCollectingMatches() throws InterruptedException {
+        ItemRequestDto request = itemRequestService.create(requestor.getId(),
+                ItemRequestDto.builder().description("Kayak").build());
+        ItemDto first = createItem("Kayak", "Inflatable", null);
+        awaitMatches(request.getId(), found -> !found.isEmpty());
+
+        createItem("Paddle", "Answers the request", request.getId());
+        createItem("Kayak", "Sea kayak", null);
+        ItemRequestDto probe = itemRequestService.create(requestor.getId(),
+                ItemRequestDto.builder().description("Life jacket").build());
+        createItem("Life jacket", "Adult size", null);
+        awaitMatches(probe.getId(), found -> !found.isEmpty());
+
+        assertThat(itemRequestService.getMatches(requestor.getId(), request.getId()))
+                .extracting(ItemRequestMatchDto::getItemId)
+                .containsExactly(first.getId());
+    }
+
+    @Test
+    void getMatches_ShouldBeHiddenFromOtherUsers() {
+        ItemRequestDto request = itemRequestService.create(requestor.getId(),
+                ItemRequestDto.builder().description("Ladder").build());
+
+        assertThatThrownBy(() -> itemRequestService.getMatches(owner.getId(), request.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private ItemDto createItem(String name, String description, Long requestId) {
+        return itemService.create(owner.getId(), ItemCreateDto.builder()
+                .name(name)
+                .description(description)
+                .available(true)
+                .requestId(requestId)
+                .build());
+    }
+
+    /**
+     * Matching runs after commit on the matcher thread, so the result is polled.
+     */
+    private Collection<ItemRequestMatchDto> awaitMatches(long requestId,
+                                                         Predicate<Collection<ItemRequestMatchDto>> condition)
+            throws InterruptedException {
+        Collection<ItemRequestMatchDto> matches = itemRequestService.getMatches(requestor.getId(), requestId);
+        for (int attempt = 0; attempt < 100 && !condition.test(matches); attempt++) {
+            Thread.sleep(50);
+            matches = itemRequestService.getMatches(requestor.getId(), requestId);
+        }
+        assertThat(condition).accepts(matches);
+        return matches;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.cache.CacheConfig;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserCreateDto;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserUpdateDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistence;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class UserCacheIntegrationTest {
+    final UserService userService;
+    final UserExistence userExistence;
+    final UserRepository userRepository;
+    final CacheManager cacheManager;
+    final MeterRegistry meterRegistry;
+    final ItemService itemService;
+    final JdbcTemplate jdbcTemplate;
+    UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        user = userService.create(UserCreateDto.builder()
+                .name("Cached User")
+                .email("cached-user@example.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (userRepository.existsById(user.getId())) {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void exists_ShouldCacheOnlyExistingUsers() {
+        double hits = hits(CacheConfig.USER_EXISTS);
+        assertThat(userExistence.exists(user.getId())).isTrue();
+        assertThat(userExistence.exists(user.getId())).isTrue();
+        assertThat(hits(CacheConfig.USER_EXISTS)).isEqualTo(hits + 1);
+
+        long missingId = user.getId() + 1000;
+        assertThat(userExistence.exists(missingId)).isFalse();
+        assertThat(cacheManager.getCache(CacheConfig.USER_EXISTS).get(missingId)).isNull();
+    }
+
+    @Test
+    void getById_ShouldBeEvictedByUpdateAndDelete() {
+        userService.getById(user.getId());
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(user.getId())).isNotNull();
+
+        userService.update(user.getId(), UserUpdateDto.builder().name("Renamed").build());
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(user.getId())).isNull();
+        assertThat(userService.getById(user.getId()).getName()).isEqualTo("Renamed");
+
+        userExistence.exists(user.getId());
+        userService.delete(user.getId());
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(user.getId())).isNull();
+        assertThat(userExistence.exists(user.getId())).isFalse();
+    }
+
+    @Test
+    void recheck_ShouldEvictUserDeletedBehindTheCache() {
+        assertThat(userExistence.exists(user.getId())).isTrue();
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", user.getId());
+
+        assertThatThrownBy(() -> itemService.create(user.getId(), ItemCreateDto.builder()
+                .name("Drill")
+                .description("Cordless")
+                .available(true)
+                .build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(userExistence.recheck(user.getId())).isFalse();
+        assertThat(cacheManager.getCache(CacheConfig.USER_EXISTS).get(user.getId())).isNull();
+    }
+
+    private double hits(String cacheName) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", "hit")
+                .functionCounter().count();
+    }
+}
@@ -11,6 +11,7 @@ import ru.practicum.shareit.user.controller.UserController;
 import ru.practicum.shareit.user.dto.UserCreateDto;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
+import ru.practicum.shareit.user.service.UserExistence;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.Arrays;
@@ -29,6 +30,8 @@ class UserControllerTest {
     final MockMvc mockMvc;
     @MockBean
     final UserService userService;
+    @MockBean
+    final UserExistence userExistence;
 
     @Test
     void testGetAllUsers() throws Exception {
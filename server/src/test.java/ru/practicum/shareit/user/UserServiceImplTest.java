@@ -11,6 +11,7 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistence;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
 import java.util.Collections;
@@ -23,6 +24,8 @@ import static org.mockito.Mockito.*;
 class UserServiceImplTest {
     @Mock
     UserRepository userRepository;
+    @Mock
+    UserExistence userExistence;
     @InjectMocks
     UserServiceImpl userService;
     User user;
@@ -90,7 +93,7 @@ class UserServiceImplTest {
 
     @Test
     void delete_ShouldDeleteUser_WhenUserExists() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userExistence.exists(1L)).thenReturn(true);
         doNothing().when(userRepository).deleteById(1L);
         userService.delete(1L);
         verify(userRepository, times(1)).deleteById(1L);
@@ -98,7 +101,7 @@ class UserServiceImplTest {
 
     @Test
     void delete_ShouldThrowNotFoundException_WhenUserDoesNotExist() {
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userExistence.exists(1L)).thenReturn(false);
         assertThrows(NotFoundException.class, () -> userService.delete(1L));
     }
 }